@@ -0,0 +1,24 @@
+package com.toto.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_job_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobWatermark {
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    // When the last completed run started; anything changed after this has not been seen by the job yet
+    @Column(nullable = false)
+    private LocalDateTime lastStartedAt;
+}
@@ -32,7 +32,7 @@ public class Bed extends Furniture {
         if (isAdjustable) baseCost += 200;
 
         // Size-based cost adjustment
-        switch (size.toLowerCase()) {
+        switch (size != null ? size.toLowerCase() : "") {
             case "king": baseCost *= 1.4; break;
             case "queen": baseCost *= 1.2; break;
             case "double": baseCost *= 1.1; break;
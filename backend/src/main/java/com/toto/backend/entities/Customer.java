@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,9 +17,10 @@ import com.toto.backend.entities.enums.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Customer {
+public class Customer implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -63,6 +65,16 @@ public class Customer {
     @Enumerated(EnumType.STRING)
     private PaymentMethod preferredPaymentMethod;
 
+    // Order statistics, refreshed in bulk by OrderService on every order write and never written through the entity
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int orderCount;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastOrderDate;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private double lifetimeValue;  // Total of the customer's orders that were not cancelled
+
     private boolean marketingConsent;
     private String specialNotes;
     private String referralSource;  // e.g., "Friend", "Social Media", etc.
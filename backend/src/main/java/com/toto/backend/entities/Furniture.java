@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.io.Serializable;
+
 
 @Getter
 @Setter
@@ -15,9 +17,10 @@ import lombok.Setter;
 @Inheritance(strategy = InheritanceType.JOINED)
 @Entity
 @DiscriminatorColumn(name = "furniture_type")
-public abstract class Furniture {
+public abstract class Furniture implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "furniture_seq")
+    @SequenceGenerator(name = "furniture_seq", sequenceName = "furniture_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -32,6 +35,13 @@ public abstract class Furniture {
     @JoinColumn(name = "supplier_id")
     protected Supplier supplier;
 
+    @Version
+    private Long version;
+
+    // Unreserved units on hand, or null when not stock-tracked. Set on insert only: afterwards it moves solely through
+    // the atomic updates of IStockService, so saving a stale entity never overwrites a concurrent reservation.
+    @Column(updatable = false)
+    private Integer stockQuantity;
 
     public abstract double calculateCost();
     public abstract void refurbish();
@@ -6,28 +6,49 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Table(name = "orders")
 @Entity
+@NamedEntityGraph(
+        name = "Order.summary",
+        attributeNodes = @NamedAttributeNode("customer")
+)
+@NamedEntityGraph(
+        name = "Order.withLines",
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode(value = "items", subgraph = "items.supplier")
+        },
+        subgraphs = @NamedSubgraph(name = "items.supplier", attributeNodes = @NamedAttributeNode("supplier"))
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Order {
+public class Order implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock: concurrent read-modify-writes of the same order fail instead of silently overwriting each other
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
             name = "order_items",
             joinColumns = @JoinColumn(name = "order_id"),
@@ -107,7 +128,8 @@ public class Order {
 
     @PrePersist
     protected void onCreate() {
-        orderDate = LocalDateTime.now();
+        // Truncated to the database's precision so keyset positions taken from managed entities match stored rows
+        orderDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (status == null) {
             status = OrderStatus.PENDING;
         }
@@ -127,9 +149,10 @@ public class Order {
         recalculateTotal();
     }
 
+    // Provisional total from the items' own costs; OrderService.save replaces it with the fully priced total
     private void recalculateTotal() {
         this.totalAmount = items.stream()
-                .map(Furniture::getPrice)
+                .map(Furniture::calculateCost)
                .reduce(0.0, Double::sum);
     }
 }
@@ -0,0 +1,44 @@
+package com.toto.backend.entities;
+
+import com.toto.backend.entities.enums.InstallmentStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_installments")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderInstallment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_installments_seq")
+    @SequenceGenerator(name = "order_installments_seq", sequenceName = "order_installments_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    // 1-based position in the order's payment plan
+    @Column(nullable = false)
+    private int installmentNumber;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private double amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InstallmentStatus status;
+
+    private LocalDateTime paidDate;
+}
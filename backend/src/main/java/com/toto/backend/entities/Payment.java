@@ -0,0 +1,44 @@
+package com.toto.backend.entities;
+
+import com.toto.backend.entities.enums.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Ledger entry; rows are only ever inserted, so the entity has no setters and Hibernate never updates it
+@Entity
+@Immutable
+@Table(name = "payments")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Payment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    @Column(nullable = false)
+    private double amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+}
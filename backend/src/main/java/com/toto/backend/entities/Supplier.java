@@ -10,7 +10,10 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,9 +24,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Supplier {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "supplier")
+public class Supplier implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "suppliers_seq")
+    @SequenceGenerator(name = "suppliers_seq", sequenceName = "suppliers_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -76,10 +82,12 @@ public class Supplier {
 
     @ElementCollection
     @CollectionTable(name = "supplier_specialties")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "supplier-specialties")
     private List<String> specialties = new ArrayList<>();
 
     @ElementCollection
     @CollectionTable(name = "supplier_wood_types")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "supplier-wood-types")
     private List<WoodType> woodTypesOffered = new ArrayList<>();
 
     @Column(nullable = false)
@@ -100,9 +108,14 @@ public class Supplier {
     @Enumerated(EnumType.STRING)
     private PaymentMethod preferredPaymentMethod;
 
+    // Maintained by SupplierService on every save, so suppliers can be ranked without loading their collections
+    @Column(nullable = false)
+    private int reliabilityScore;
+
     // Geographical coverage
     @ElementCollection
     @CollectionTable(name = "supplier_service_cities")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "supplier-service-cities")
     private List<String> serviceCities = new ArrayList<>();
 
     // Helper methods
@@ -124,7 +137,7 @@ public class Supplier {
         return applyBulkDiscount(total);
     }
 
-    private double applyBulkDiscount(double amount) {
+    public double applyBulkDiscount(double amount) {
         return amount * (1 - bulkOrderDiscountRate);
     }
 
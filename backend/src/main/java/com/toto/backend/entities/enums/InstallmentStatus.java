@@ -0,0 +1,5 @@
+package com.toto.backend.entities.enums;
+
+public enum InstallmentStatus {
+    PENDING, PAID
+}
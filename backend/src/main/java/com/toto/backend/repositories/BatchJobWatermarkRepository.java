@@ -0,0 +1,13 @@
+package com.toto.backend.repositories;
+
+import com.toto.backend.entities.BatchJobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing BatchJobWatermark entities.
+ * Records where each incremental batch job left off.
+ */
+@Repository
+public interface BatchJobWatermarkRepository extends JpaRepository<BatchJobWatermark, String> {
+}
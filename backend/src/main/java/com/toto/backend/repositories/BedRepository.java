@@ -1,6 +1,7 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.Bed;
+import com.toto.backend.repositories.projections.BedRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -76,4 +77,11 @@ public interface BedRepository extends JpaRepository<Bed, Long> {
      */
     List<Bed> findByManufacturerContainingIgnoreCaseAndSizeContainingIgnoreCase(
             String manufacturer, String size);
+    
+    /**
+     * Find all beds as read-only list rows, ordered by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.BedRow(b.id, b.name, b.price, b.material, b.manufacturer, " +
+            "b.size, b.hasHeadboard, b.hasFootboard, b.hasStorageDrawers, b.mattressType, b.isAdjustable) FROM Bed b ORDER BY b.id")
+    List<BedRow> findAllRows();
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.Chair;
+import com.toto.backend.repositories.projections.ChairRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -68,4 +69,11 @@ public interface ChairRepository extends JpaRepository<Chair, Long> {
      */
     List<Chair> findByManufacturerContainingIgnoreCaseAndChairStyleContainingIgnoreCase(
             String manufacturer, String chairStyle);
+
+    /**
+     * Find all chairs as read-only list rows, ordered by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.ChairRow(c.id, c.name, c.price, c.material, c.manufacturer, " +
+            "c.seatingCapacity, c.hasArmrests, c.chairStyle, c.isAdjustable, c.hasWheels) FROM Chair c ORDER BY c.id")
+    List<ChairRow> findAllRows();
 }
@@ -4,12 +4,23 @@ import com.toto.backend.entities.Customer;
 import com.toto.backend.entities.enums.CustomerStatus;
 import com.toto.backend.entities.enums.CustomerType;
 import com.toto.backend.entities.enums.PaymentMethod;
+import com.toto.backend.repositories.projections.LoyaltyRanking;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +30,17 @@ import java.util.List;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
+    // Loyalty score of every customer matching the optional city and customer type filters, computed from the
+    // order statistics on the customer row with the same formula as CustomerService.calculateLoyaltyScore
+    String LOYALTY_SCORES = "SELECT c.id AS \"customerId\", c.first_name AS \"firstName\", c.last_name AS \"lastName\", " +
+            "c.city AS city, c.customer_type AS \"customerType\", c.order_count AS \"orderCount\", " +
+            "c.lifetime_value AS \"lifetimeValue\", " +
+            "c.order_count * 10 + 5 * CAST(date_part('year', age(now(), c.registration_date)) AS integer) " +
+            "+ CASE WHEN c.customer_type = 'VIP' THEN 20 ELSE 0 END AS score " +
+            "FROM customer c " +
+            "WHERE (CAST(:city AS text) IS NULL OR LOWER(c.city) = LOWER(CAST(:city AS text))) " +
+            "AND (CAST(:customerType AS text) IS NULL OR c.customer_type = CAST(:customerType AS text))";
+    
     /**
      * Find customers by first name containing the given text (case-insensitive).
      */
@@ -31,8 +53,9 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
     /**
      * Find customers by full name (first name and last name) containing the given text (case-insensitive).
+     * Matches against the trigram-indexed full_name_search column; the caller passes a lower-cased, LIKE-escaped term.
      */
-    @Query("SELECT c FROM Customer c WHERE CONCAT(c.firstName, ' ', c.lastName) LIKE %:name%")
+    @Query(value = "SELECT c.* FROM customer c WHERE c.full_name_search LIKE '%' || :name || '%'", nativeQuery = true)
     List<Customer> findByFullNameContainingIgnoreCase(@Param("name") String name);
     
     /**
@@ -99,17 +122,178 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     /**
      * Find customers with no orders.
      */
-    @Query("SELECT c FROM Customer c WHERE c.orders IS EMPTY")
+    @Query("SELECT c FROM Customer c WHERE c.orderCount = 0")
     List<Customer> findCustomersWithNoOrders();
     
     /**
      * Find customers with at least a certain number of orders.
      */
-    @Query("SELECT c FROM Customer c WHERE SIZE(c.orders) >= :minOrders")
+    @Query("SELECT c FROM Customer c WHERE c.orderCount >= :minOrders")
     List<Customer> findCustomersWithMinimumOrders(@Param("minOrders") int minOrders);
     
     /**
      * Find customers by city and customer type.
      */
     List<Customer> findByCityIgnoreCaseAndCustomerType(String city, CustomerType customerType);
-}
\ No newline at end of file
+    
+    /**
+     * Ranked customer search by partial name or phone number.
+     * Substring matches on name or phone come first, then fuzzy name matches by trigram word similarity.
+     * The caller passes the lower-cased term twice: LIKE-escaped for the substring matches and verbatim for the
+     * trigram comparison.
+     */
+    @Query(value = "SELECT c.* FROM customer c " +
+            "WHERE c.full_name_search LIKE '%' || :term || '%' " +
+            "OR c.phone_search LIKE '%' || :term || '%' " +
+            "OR :fuzzyTerm <% c.full_name_search " +
+            "ORDER BY (c.full_name_search LIKE '%' || :term || '%' OR c.phone_search LIKE '%' || :term || '%') DESC, " +
+            "word_similarity(:fuzzyTerm, c.full_name_search) DESC, c.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Customer> searchRanked(@Param("term") String term, @Param("fuzzyTerm") String fuzzyTerm,
+                                @Param("limit") int limit);
+    
+    /**
+     * Find the highest customer ID, or null when there are no customers.
+     */
+    @Query("SELECT MAX(c.id) FROM Customer c")
+    Long findMaxId();
+    
+    /**
+     * Find the last customer ID of the next keyset chunk of at most chunkSize customers after afterId,
+     * or null when no customers remain.
+     */
+    @Query(value = "SELECT MAX(id) FROM (SELECT id FROM customer WHERE id > :afterId ORDER BY id LIMIT :chunkSize) chunk",
+            nativeQuery = true)
+    Long findChunkEndId(@Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
+    
+    /**
+     * Mark active customers with IDs in (afterId, throughId] as inactive when they have no order after the cutoff.
+     * Bulk update: runs entirely in the database, reading the last order date kept on the customer row.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.status = com.toto.backend.entities.enums.CustomerStatus.INACTIVE " +
+            "WHERE c.id > :afterId AND c.id <= :throughId " +
+            "AND c.status = com.toto.backend.entities.enums.CustomerStatus.ACTIVE " +
+            "AND (c.lastOrderDate IS NULL OR c.lastOrderDate <= :cutoff)")
+    int markInactiveWithoutOrdersSince(@Param("afterId") long afterId,
+                                       @Param("throughId") long throughId,
+                                       @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * Find the current status of customers by ID, locking the rows until the end of the transaction.
+     * Rows are locked in ID order so concurrent bulk transitions cannot deadlock each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(c.id, c.status) " +
+            "FROM Customer c WHERE c.id IN :ids ORDER BY c.id")
+    List<StatusSnapshot<CustomerStatus>> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the current status of customers in a status and city, locking the rows until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(c.id, c.status) " +
+            "FROM Customer c WHERE c.status = :status AND LOWER(c.city) = LOWER(:city) ORDER BY c.id")
+    List<StatusSnapshot<CustomerStatus>> lockStatusesByStatusAndCity(@Param("status") CustomerStatus status,
+                                                                     @Param("city") String city);
+    
+    /**
+     * Move customers to the target status, guarded so only customers currently in one of the allowed statuses change.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.status = :target WHERE c.id IN :ids AND c.status IN :allowed")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("target") CustomerStatus target,
+                     @Param("allowed") Collection<CustomerStatus> allowed);
+    
+    /**
+     * Promote every customer with at least minOrders orders to VIP.
+     * Bulk update: reads the order count kept on the customer row.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.customerType = com.toto.backend.entities.enums.CustomerType.VIP " +
+            "WHERE (c.customerType IS NULL OR c.customerType <> com.toto.backend.entities.enums.CustomerType.VIP) " +
+            "AND c.orderCount >= :minOrders")
+    int promoteToVip(@Param("minOrders") int minOrders);
+    
+    /**
+     * Promote customers with at least minOrders orders to VIP, considering only customers with an order since the given date.
+     * Bulk update: recent customers are found through the last order date index.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.customerType = com.toto.backend.entities.enums.CustomerType.VIP " +
+            "WHERE (c.customerType IS NULL OR c.customerType <> com.toto.backend.entities.enums.CustomerType.VIP) " +
+            "AND c.lastOrderDate >= :since AND c.orderCount >= :minOrders")
+    int promoteToVipWithOrdersSince(@Param("since") LocalDateTime since, @Param("minOrders") int minOrders);
+    
+    /**
+     * Recompute the order statistics of the given customers from their orders.
+     * Bulk update: each customer's orders are aggregated through the (customer_id, order_date) index.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET " +
+            "c.orderCount = (SELECT COUNT(o) FROM Order o WHERE o.customer = c), " +
+            "c.lastOrderDate = (SELECT MAX(o.orderDate) FROM Order o WHERE o.customer = c), " +
+            "c.lifetimeValue = (SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.customer = c " +
+            "AND o.status <> com.toto.backend.entities.enums.OrderStatus.CANCELLED) " +
+            "WHERE c.id IN :customerIds")
+    int refreshOrderStats(@Param("customerIds") Collection<Long> customerIds);
+    
+    /**
+     * Lock customers by ID until the end of the transaction, in ID order.
+     * Taken before refreshOrderStats so its aggregates are read after every concurrent order write to the same customers
+     * has committed. NO KEY UPDATE does not conflict with the key-share lock an order insert holds on its customer, so
+     * two writers never deadlock upgrading it.
+     */
+    @Query(value = "SELECT id FROM customer WHERE id IN :customerIds ORDER BY id FOR NO KEY UPDATE",
+            nativeQuery = true)
+    List<Long> lockByIdIn(@Param("customerIds") Collection<Long> customerIds);
+    
+    /**
+     * Lock the customers with IDs in (afterId, throughId] until the end of the transaction, in ID order.
+     */
+    @Query(value = "SELECT id FROM customer WHERE id > :afterId AND id <= :throughId ORDER BY id FOR NO KEY UPDATE",
+            nativeQuery = true)
+    List<Long> lockByIdRange(@Param("afterId") long afterId, @Param("throughId") long throughId);
+    
+    /**
+     * Recompute the order statistics of the customers with IDs in (afterId, throughId] and correct those that drifted.
+     * Bulk update: returns the number of customers whose statistics were wrong.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "customer"))
+    @Query(value = "UPDATE customer c SET order_count = s.order_count, last_order_date = s.last_order_date, " +
+            "lifetime_value = s.lifetime_value " +
+            "FROM (SELECT c2.id, count(o.id) AS order_count, max(o.order_date) AS last_order_date, " +
+            "coalesce(sum(o.total_amount) FILTER (WHERE o.status <> 'CANCELLED'), 0) AS lifetime_value " +
+            "FROM customer c2 LEFT JOIN orders o ON o.customer_id = c2.id " +
+            "WHERE c2.id > :afterId AND c2.id <= :throughId GROUP BY c2.id) s " +
+            "WHERE c.id = s.id AND (c.order_count, c.last_order_date, c.lifetime_value) " +
+            "IS DISTINCT FROM (s.order_count, s.last_order_date, s.lifetime_value)", nativeQuery = true)
+    int reconcileOrderStats(@Param("afterId") long afterId, @Param("throughId") long throughId);
+    
+    /**
+     * Find a page of the loyalty leaderboard: customers ranked by loyalty score, highest first, optionally filtered by
+     * city and customer type (null for all). Scores are computed in one pass over the customer table.
+     */
+    @Query(value = "SELECT RANK() OVER (ORDER BY s.score DESC) AS rank, s.* FROM (" + LOYALTY_SCORES + ") s " +
+            "ORDER BY s.score DESC, s.\"customerId\"",
+            countQuery = "SELECT COUNT(*) FROM (" + LOYALTY_SCORES + ") s",
+            nativeQuery = true)
+    Page<LoyaltyRanking> findLoyaltyLeaderboard(@Param("city") String city,
+                                                @Param("customerType") String customerType,
+                                                Pageable pageable);
+    
+    /**
+     * Find the k customers with the highest loyalty scores, optionally filtered by city and customer type (null for all).
+     * The limit sits directly on the score sort, so the database keeps only the best k rows in a bounded heap;
+     * ranks are assigned afterwards and still match the full leaderboard.
+     */
+    @Query(value = "SELECT RANK() OVER (ORDER BY t.score DESC) AS rank, t.* FROM (" +
+            "SELECT s.* FROM (" + LOYALTY_SCORES + ") s ORDER BY s.score DESC, s.\"customerId\" LIMIT :k) t " +
+            "ORDER BY t.score DESC, t.\"customerId\"",
+            nativeQuery = true)
+    List<LoyaltyRanking> findTopLoyaltyScores(@Param("k") int k,
+                                              @Param("city") String city,
+                                              @Param("customerType") String customerType);
+}
@@ -1,12 +1,25 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.MiscFurniture;
 import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.repositories.projections.FurnitureSummary;
+import com.toto.backend.repositories.projections.FurnitureVersion;
+import com.toto.backend.repositories.projections.InventoryCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -74,4 +87,147 @@ public interface FurnitureRepository extends JpaRepository<Furniture, Long> {
      */
     @Query("SELECT f FROM Furniture f WHERE f.supplier.supplierType = :supplierType")
     List<Furniture> findBySupplierType(@Param("supplierType") String supplierType);
-}
\ No newline at end of file
+    
+    /**
+     * Find all furniture as read-only summary rows, ordered by ID.
+     * Selects only the displayed columns; the supplier and its collections are never loaded.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) FROM Furniture f ORDER BY f.id")
+    List<FurnitureSummary> findAllSummaries();
+    
+    /**
+     * Find a page of furniture as read-only summary rows.
+     */
+    @Query(value = "SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) FROM Furniture f",
+            countQuery = "SELECT COUNT(f) FROM Furniture f")
+    Page<FurnitureSummary> findSummaries(Pageable pageable);
+    
+    /**
+     * Find furniture of one concrete type as read-only summary rows.
+     * The type check is a plain predicate on the furniture_type discriminator column.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) FROM Furniture f " +
+            "WHERE TYPE(f) = :type ORDER BY f.id")
+    List<FurnitureSummary> findSummariesByType(@Param("type") Class<? extends Furniture> type);
+    
+    /**
+     * Find furniture by price range as read-only summary rows.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) FROM Furniture f " +
+            "WHERE f.price BETWEEN :minPrice AND :maxPrice ORDER BY f.price, f.id")
+    List<FurnitureSummary> findSummariesByPriceBetween(@Param("minPrice") double minPrice, @Param("maxPrice") double maxPrice);
+    
+    /**
+     * Find furniture by wood type as read-only summary rows.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) FROM Furniture f " +
+            "WHERE f.woodType = :woodType ORDER BY f.id")
+    List<FurnitureSummary> findSummariesByWoodType(@Param("woodType") WoodType woodType);
+    
+    /**
+     * Find top selling furniture items as read-only summary rows.
+     * Counts order lines per item; only the furniture and order_items tables are read.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureSummary(" +
+            "f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType) " +
+            "FROM Order o JOIN o.items f " +
+            "GROUP BY f.id, f.name, TYPE(f), f.price, f.material, f.manufacturer, f.woodType " +
+            "ORDER BY COUNT(o) DESC, f.id")
+    List<FurnitureSummary> findTopSellingSummaries(Limit limit);
+    
+    /**
+     * Count furniture per type, per wood type, per supplier and in total with one scan of the furniture table.
+     * Each row is tagged with its dimension; the bucket is null for items without a wood type or supplier.
+     */
+    @Query(value = "SELECT CASE WHEN GROUPING(f.furniture_type) = 0 THEN 'TYPE' " +
+            "WHEN GROUPING(f.wood_type) = 0 THEN 'WOOD_TYPE' " +
+            "WHEN GROUPING(f.supplier_id) = 0 THEN 'SUPPLIER' ELSE 'TOTAL' END AS dimension, " +
+            "COALESCE(f.furniture_type, f.wood_type, CAST(f.supplier_id AS varchar)) AS bucket, " +
+            "COUNT(*) AS items " +
+            "FROM furniture f " +
+            "GROUP BY GROUPING SETS ((f.furniture_type), (f.wood_type), (f.supplier_id), ())", nativeQuery = true)
+    List<InventoryCount> countInventory();
+    
+    /**
+     * Find the current versions of furniture items by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.FurnitureVersion(f.id, f.version) " +
+            "FROM Furniture f WHERE f.id IN :ids")
+    List<FurnitureVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find furniture items by ID with their suppliers fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "supplier")
+    List<Furniture> findWithSupplierByIdIn(Collection<Long> ids);
+    
+    /**
+     * Find miscellaneous items by ID with their price modifiers fetched in the same query.
+     */
+    @Query("SELECT DISTINCT m FROM MiscFurniture m LEFT JOIN FETCH m.priceModifiers WHERE m.id IN :ids")
+    List<MiscFurniture> findMiscWithPriceModifiersByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the stock quantity of a furniture item; null when the item is not stock-tracked or does not exist.
+     */
+    @Query(value = "SELECT f.stock_quantity FROM furniture f WHERE f.id = :id", nativeQuery = true)
+    Integer findStockQuantityById(@Param("id") Long id);
+    
+    /**
+     * Find which of the given furniture items are stock-tracked.
+     */
+    @Query(value = "SELECT f.id FROM furniture f WHERE f.id IN :ids AND f.stock_quantity IS NOT NULL", nativeQuery = true)
+    List<Long> findStockTrackedIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Lock the given furniture items until the end of the transaction, in ID order.
+     * Taken by bulk reservation syncs before any stock update, so all the rows they may touch are locked in the one
+     * order checkouts lock them. NO KEY UPDATE is the lock the stock updates take.
+     */
+    @Query(value = "SELECT f.id FROM furniture f WHERE f.id IN :ids ORDER BY f.id FOR NO KEY UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Take units off a stock-tracked item's stock, only if that many are available.
+     * Concurrent reservations of the same item queue on its row and each re-checks the remaining quantity, so stock is
+     * never oversold; reservations of different items never wait for each other. Returns 0 when there is not enough stock.
+     * The stock updates declare the furniture query space, so Hibernate only invalidates cached furniture data instead of
+     * the whole second-level cache.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "furniture"))
+    @Query(value = "UPDATE furniture SET stock_quantity = stock_quantity - :quantity " +
+            "WHERE id = :id AND stock_quantity >= :quantity", nativeQuery = true)
+    int reserveStock(@Param("id") Long id, @Param("quantity") int quantity);
+    
+    /**
+     * Put units back on a stock-tracked item's stock.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "furniture"))
+    @Query(value = "UPDATE furniture SET stock_quantity = stock_quantity + :quantity " +
+            "WHERE id = :id AND stock_quantity IS NOT NULL", nativeQuery = true)
+    int releaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+    
+    /**
+     * Add received units to an item's stock, starting to track it if it was not.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "furniture"))
+    @Query(value = "UPDATE furniture SET stock_quantity = COALESCE(stock_quantity, 0) + :quantity WHERE id = :id",
+            nativeQuery = true)
+    int addStock(@Param("id") Long id, @Param("quantity") int quantity);
+    
+    /**
+     * Overwrite an item's stock quantity, e.g. after a stock-take; null stops tracking it.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "furniture"))
+    @Query(value = "UPDATE furniture SET stock_quantity = CAST(:quantity AS integer) WHERE id = :id", nativeQuery = true)
+    int updateStockQuantity(@Param("id") Long id, @Param("quantity") Integer quantity);
+}
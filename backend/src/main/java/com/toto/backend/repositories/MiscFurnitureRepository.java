@@ -1,6 +1,7 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.repositories.projections.MiscFurnitureRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -77,4 +78,11 @@ public interface MiscFurnitureRepository extends JpaRepository<MiscFurniture, Lo
     List<MiscFurniture> findByPriceModifierValueGreaterThan(
             @Param("modifierName") String modifierName, 
             @Param("minValue") double minValue);
+    
+    /**
+     * Find all miscellaneous furniture items as read-only list rows, ordered by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.MiscFurnitureRow(m.id, m.name, m.price, m.material, m.manufacturer, " +
+            "m.category, m.description) FROM MiscFurniture m ORDER BY m.id")
+    List<MiscFurnitureRow> findAllRows();
 }
\ No newline at end of file
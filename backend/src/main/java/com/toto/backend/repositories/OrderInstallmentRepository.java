@@ -0,0 +1,97 @@
+package com.toto.backend.repositories;
+
+import com.toto.backend.entities.OrderInstallment;
+import com.toto.backend.entities.enums.InstallmentStatus;
+import com.toto.backend.repositories.projections.PendingInstallmentCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for managing OrderInstallment entities.
+ * Due-date queries are range scans on the (status, due_date, id) index in index order.
+ */
+@Repository
+public interface OrderInstallmentRepository extends JpaRepository<OrderInstallment, Long> {
+    
+    /**
+     * Find the installments of an order in plan order.
+     */
+    List<OrderInstallment> findByOrder_IdOrderByInstallmentNumberAsc(Long orderId);
+    
+    /**
+     * Find a slice of installments in a status falling due between two dates (inclusive), earliest first.
+     */
+    Slice<OrderInstallment> findByStatusAndDueDateBetweenOrderByDueDateAscIdAsc(
+            InstallmentStatus status, LocalDate from, LocalDate to, Pageable pageable);
+    
+    /**
+     * Find a slice of installments in a status that fell due before a date, earliest first.
+     */
+    Slice<OrderInstallment> findByStatusAndDueDateBeforeOrderByDueDateAscIdAsc(
+            InstallmentStatus status, LocalDate date, Pageable pageable);
+    
+    /**
+     * Count the pending installments of each of the given orders; orders without one are left out.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.PendingInstallmentCount(i.order.id, COUNT(i)) " +
+            "FROM OrderInstallment i " +
+            "WHERE i.order.id IN :orderIds AND i.status = com.toto.backend.entities.enums.InstallmentStatus.PENDING " +
+            "GROUP BY i.order.id")
+    List<PendingInstallmentCount> countPendingByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+    
+    /**
+     * Delete the installment schedule of an order.
+     */
+    @Modifying
+    @Query("DELETE FROM OrderInstallment i WHERE i.order.id = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+    
+    /**
+     * Mark a pending installment as paid. Returns 0 when it does not exist or was already paid, so a concurrent call
+     * cannot pay it twice.
+     */
+    @Modifying
+    @Query("UPDATE OrderInstallment i SET i.status = com.toto.backend.entities.enums.InstallmentStatus.PAID, " +
+            "i.paidDate = :paidDate " +
+            "WHERE i.id = :id AND i.status = com.toto.backend.entities.enums.InstallmentStatus.PENDING")
+    int markPaid(@Param("id") Long id, @Param("paidDate") LocalDateTime paidDate);
+    
+    /**
+     * Generate an order's installment schedule with one set-based INSERT: one pending installment per month,
+     * the first due a month after the start date.
+     * Each row draws its ID straight from the sequence, as the catalog import does. The native query space is declared,
+     * so Hibernate only invalidates cached order_installments data instead of the whole second-level cache.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_installments"))
+    @Query(value = "INSERT INTO order_installments (id, order_id, installment_number, due_date, amount, status) " +
+            "SELECT nextval('order_installments_seq'), :orderId, n, " +
+            "CAST(CAST(:startDate AS date) + make_interval(months => n) AS date), :amount, 'PENDING' " +
+            "FROM generate_series(1, :months) AS n", nativeQuery = true)
+    int generateSchedule(@Param("orderId") Long orderId,
+                         @Param("startDate") LocalDate startDate,
+                         @Param("months") int months,
+                         @Param("amount") double amount);
+    
+    /**
+     * Set the amount of the pending installments of the given orders to their order's current monthly amount.
+     */
+    @Modifying
+    @Query("UPDATE OrderInstallment i SET " +
+            "i.amount = (SELECT o.monthlyInstallmentAmount FROM Order o WHERE o.id = i.order.id) " +
+            "WHERE i.order.id IN :orderIds AND i.status = com.toto.backend.entities.enums.InstallmentStatus.PENDING")
+    int refreshPendingAmounts(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -5,13 +5,30 @@ import com.toto.backend.entities.enums.OrderStatus;
 import com.toto.backend.entities.enums.PaymentMethod;
 import com.toto.backend.entities.enums.PaymentPlan;
 import com.toto.backend.entities.enums.PaymentStatus;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import com.toto.backend.repositories.projections.StoredAdvancePayment;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for managing Order entities.
@@ -133,4 +150,200 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * Find orders by city and payment method.
      */
     List<Order> findByDeliveryCityIgnoreCaseAndPaymentMethod(String city, PaymentMethod paymentMethod);
-}
\ No newline at end of file
+    
+    /**
+     * Find a page of orders by customer ID.
+     */
+    Page<Order> findByCustomer_Id(Long customerId, Pageable pageable);
+    
+    /**
+     * Find a page of orders by order status.
+     */
+    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    
+    /**
+     * Find a page of orders by payment status.
+     */
+    Page<Order> findByPaymentStatus(PaymentStatus paymentStatus, Pageable pageable);
+    
+    /**
+     * Find a slice of orders by order date between two dates.
+     * A slice skips the count query, which is the expensive part on large date ranges.
+     */
+    Slice<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    
+    /**
+     * Find a page of orders by delivery city.
+     */
+    Page<Order> findByDeliveryCityIgnoreCase(String city, Pageable pageable);
+    
+    /**
+     * Find a page of orders with pending payments (payment status PENDING or PARTIAL).
+     */
+    @Query(value = "SELECT o FROM Order o WHERE o.paymentStatus = com.toto.backend.entities.enums.PaymentStatus.PENDING OR o.paymentStatus = com.toto.backend.entities.enums.PaymentStatus.PARTIAL",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.paymentStatus = com.toto.backend.entities.enums.PaymentStatus.PENDING OR o.paymentStatus = com.toto.backend.entities.enums.PaymentStatus.PARTIAL")
+    Page<Order> findOrdersWithPendingPayments(Pageable pageable);
+    
+    /**
+     * Scroll through all orders using keyset pagination on (orderDate, id).
+     */
+    Window<Order> findAllByOrderByOrderDateAscIdAsc(ScrollPosition position, Limit limit);
+    
+    /**
+     * Scroll through orders by order status using keyset pagination on (orderDate, id).
+     */
+    Window<Order> findByStatusOrderByOrderDateAscIdAsc(OrderStatus status, ScrollPosition position, Limit limit);
+    
+    /**
+     * Scroll through orders by order date between two dates using keyset pagination on (orderDate, id).
+     */
+    Window<Order> findByOrderDateBetweenOrderByOrderDateAscIdAsc(
+            LocalDateTime startDate, LocalDateTime endDate, ScrollPosition position, Limit limit);
+    
+    /**
+     * Find a page of order summaries (orders with their customer fetched in the same query).
+     */
+    @EntityGraph("Order.summary")
+    @Query(value = "SELECT o FROM Order o", countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Order> findSummaries(Pageable pageable);
+    
+    /**
+     * Find a page of order summaries by order status.
+     */
+    @EntityGraph("Order.summary")
+    Page<Order> findSummaryByStatus(OrderStatus status, Pageable pageable);
+    
+    /**
+     * Find order summaries by customer ID.
+     */
+    @EntityGraph("Order.summary")
+    List<Order> findSummaryByCustomer_Id(Long customerId);
+    
+    /**
+     * Find an order with its customer, items and item suppliers fetched in one query.
+     */
+    @EntityGraph("Order.withLines")
+    Optional<Order> findWithLinesById(Long id);
+    
+    /**
+     * Find orders with their customer, items and item suppliers fetched in one query.
+     */
+    @EntityGraph("Order.withLines")
+    List<Order> findWithLinesByIdIn(Collection<Long> ids);
+    
+    /**
+     * Find a page of order IDs by order status.
+     * Used to page orders before fetching their lines, since paging a collection fetch happens in memory.
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.status = :status",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+    
+    /**
+     * Find the next chunk of order IDs in any of the given statuses, in ID order after the given ID.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsByStatusInAfter(@Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("afterId") Long afterId, Limit limit);
+    
+    /**
+     * Find the next chunk of IDs of orders in any of the given statuses that contain any of the given furniture items,
+     * in ID order after the given ID.
+     */
+    @Query("SELECT DISTINCT o.id FROM Order o JOIN o.items f " +
+            "WHERE o.status IN :statuses AND f.id IN :furnitureIds AND o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsByStatusInContainingFurnitureAfter(@Param("statuses") Collection<OrderStatus> statuses,
+                                                         @Param("furnitureIds") Collection<Long> furnitureIds,
+                                                         @Param("afterId") Long afterId, Limit limit);
+    
+    /**
+     * Find the current status of orders by ID, locking the rows until the end of the transaction.
+     * Rows are locked in ID order so concurrent bulk transitions cannot deadlock each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(o.id, o.status) " +
+            "FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<StatusSnapshot<OrderStatus>> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the current status of orders in a status and delivery city, locking the rows until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(o.id, o.status) " +
+            "FROM Order o WHERE o.status = :status AND LOWER(o.deliveryCity) = LOWER(:city) ORDER BY o.id")
+    List<StatusSnapshot<OrderStatus>> lockStatusesByStatusAndDeliveryCity(@Param("status") OrderStatus status,
+                                                                         @Param("city") String city);
+    
+    /**
+     * Move orders to the target status, guarded so only orders currently in one of the allowed statuses change.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :target, o.version = o.version + 1 WHERE o.id IN :ids AND o.status IN :allowed")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("target") OrderStatus target,
+                     @Param("allowed") Collection<OrderStatus> allowed);
+    
+    /**
+     * Mark orders as delivered at the given time, guarded so only orders currently in one of the allowed statuses change.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = com.toto.backend.entities.enums.OrderStatus.DELIVERED, " +
+            "o.actualDeliveryDate = :deliveredAt, o.version = o.version + 1 WHERE o.id IN :ids AND o.status IN :allowed")
+    int markDelivered(@Param("ids") Collection<Long> ids,
+                      @Param("deliveredAt") LocalDateTime deliveredAt,
+                      @Param("allowed") Collection<OrderStatus> allowed);
+    
+    /**
+     * Add a payment to an order's advance payment in one atomic statement.
+     * The remaining payment and payment status (COMPLETED once nothing remains, PARTIAL otherwise) are derived in SQL from
+     * the row's current values; orders without a total keep their remaining payment and take the given status.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET " +
+            "o.advancePayment = COALESCE(o.advancePayment, 0) + :amount, " +
+            "o.remainingPayment = CASE WHEN o.totalAmount IS NULL THEN o.remainingPayment " +
+            "ELSE GREATEST(0.0, o.totalAmount - COALESCE(o.advancePayment, 0) - :amount) END, " +
+            "o.paymentStatus = CASE WHEN o.totalAmount - COALESCE(o.advancePayment, 0) - :amount <= 0 " +
+            "THEN com.toto.backend.entities.enums.PaymentStatus.COMPLETED " +
+            "WHEN o.totalAmount IS NOT NULL THEN com.toto.backend.entities.enums.PaymentStatus.PARTIAL " +
+            "ELSE :status END, " +
+            "o.version = o.version + 1 " +
+            "WHERE o.id = :id")
+    int recordPayment(@Param("id") Long id, @Param("amount") double amount, @Param("status") PaymentStatus status);
+    
+    /**
+     * Set the payment status of an order in one statement.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.paymentStatus = :status, o.version = o.version + 1 WHERE o.id = :id")
+    int updatePaymentStatus(@Param("id") Long id, @Param("status") PaymentStatus status);
+    
+    /**
+     * Find which of the given order IDs exist.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the stored customer ID of an order without loading the order.
+     * Runs without the automatic flush, so unflushed changes to the order's customer are not yet visible.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT o.customer.id FROM Order o WHERE o.id = :id")
+    Optional<Long> findCustomerIdById(@Param("id") Long id);
+    
+    /**
+     * Find the stored advance payment of the given orders without loading them.
+     * Runs without the automatic flush, so the values are those before any unflushed edit.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT new com.toto.backend.repositories.projections.StoredAdvancePayment(o.id, o.advancePayment) " +
+            "FROM Order o WHERE o.id IN :ids")
+    List<StoredAdvancePayment> findAdvancePaymentsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the distinct customer IDs of the given orders.
+     */
+    @Query("SELECT DISTINCT o.customer.id FROM Order o WHERE o.id IN :ids")
+    List<Long> findCustomerIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
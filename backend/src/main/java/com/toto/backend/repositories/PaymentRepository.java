@@ -0,0 +1,95 @@
+package com.toto.backend.repositories;
+
+import com.toto.backend.entities.Payment;
+import com.toto.backend.entities.enums.PaymentMethod;
+import com.toto.backend.repositories.projections.PaymentLedgerEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the append-only payment ledger.
+ */
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    
+    /**
+     * Find which of the given provider references are already in the ledger for a payment method.
+     */
+    @Query("SELECT p.reference FROM Payment p WHERE p.paymentMethod = :paymentMethod AND p.reference IN :references")
+    List<String> findReferences(@Param("paymentMethod") PaymentMethod paymentMethod,
+                                @Param("references") Collection<String> references);
+    
+    /**
+     * Sum the payments of an order with an index-only scan.
+     */
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.order.id = :orderId")
+    double sumAmountByOrderId(@Param("orderId") Long orderId);
+    
+    /**
+     * Find the payments of an order in the order received, each with the running paid amount.
+     */
+    @Query(value = "SELECT p.id AS id, p.amount AS amount, p.payment_method AS \"paymentMethod\", " +
+            "p.reference AS reference, p.received_at AS \"receivedAt\", " +
+            "SUM(p.amount) OVER (ORDER BY p.received_at, p.id) AS \"runningBalance\" " +
+            "FROM payments p WHERE p.order_id = :orderId ORDER BY p.received_at, p.id", nativeQuery = true)
+    List<PaymentLedgerEntry> findLedgerByOrderId(@Param("orderId") Long orderId);
+    
+    /**
+     * Append a payment received now to an order's ledger, in the order's payment method.
+     * Returns 0 when the order does not exist. The native query spaces are declared, so Hibernate flushes and
+     * invalidates only payments and orders instead of the whole second-level cache.
+     */
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payments"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders")
+    })
+    @Query(value = "INSERT INTO payments (id, order_id, amount, payment_method, received_at, recorded_at) " +
+            "SELECT nextval('payments_seq'), o.id, :amount, o.payment_method, now(), now() " +
+            "FROM orders o WHERE o.id = :orderId", nativeQuery = true)
+    int appendOrderPayment(@Param("orderId") Long orderId, @Param("amount") double amount);
+    
+    /**
+     * Lock the orders with a payment recorded on or after recordedSince, or all orders with payments when it is null,
+     * until the end of the transaction, in ID order.
+     * Taken before compactBalances: an UPDATE that waits for a concurrent payment to the same order would re-check the
+     * order row but keep the ledger sum of its original snapshot, overwriting the new payment. Once the lock is held,
+     * the next statement sees every committed payment.
+     */
+    @Query(value = "SELECT o.id FROM orders o WHERE o.id IN (SELECT r.order_id FROM payments r " +
+            "WHERE CAST(:recordedSince AS timestamp) IS NULL OR r.recorded_at >= CAST(:recordedSince AS timestamp)) " +
+            "ORDER BY o.id FOR NO KEY UPDATE", nativeQuery = true)
+    List<Long> lockOrdersWithPaymentsRecordedSince(@Param("recordedSince") LocalDateTime recordedSince);
+    
+    /**
+     * Compact the ledger of the given orders into their payment snapshot: advance payment is set to the sum of the
+     * order's payments, and the remaining payment and payment status are derived from it as for a single recorded
+     * payment. Lock the orders with lockOrdersWithPaymentsRecordedSince first. The native query spaces are declared as
+     * for appendOrderPayment.
+     */
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payments"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders")
+    })
+    @Query(value = "UPDATE orders o SET advance_payment = p.paid, " +
+            "remaining_payment = CASE WHEN o.total_amount IS NULL THEN o.remaining_payment " +
+            "ELSE GREATEST(0, o.total_amount - p.paid) END, " +
+            "payment_status = CASE WHEN o.total_amount IS NULL THEN o.payment_status " +
+            "WHEN o.total_amount - p.paid <= 0 THEN 'COMPLETED' ELSE 'PARTIAL' END, " +
+            "version = o.version + 1 " +
+            "FROM (SELECT l.order_id, SUM(l.amount) AS paid FROM payments l " +
+            "WHERE l.order_id IN :orderIds GROUP BY l.order_id) p " +
+            "WHERE o.id = p.order_id AND o.advance_payment IS DISTINCT FROM p.paid", nativeQuery = true)
+    int compactBalances(@Param("orderIds") Collection<Long> orderIds);
+}
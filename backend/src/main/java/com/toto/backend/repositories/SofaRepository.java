@@ -1,6 +1,7 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.Sofa;
+import com.toto.backend.repositories.projections.SofaRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -76,4 +77,11 @@ public interface SofaRepository extends JpaRepository<Sofa, Long> {
      */
     List<Sofa> findByManufacturerContainingIgnoreCaseAndHasRecliners(
             String manufacturer, boolean hasRecliners);
+    
+    /**
+     * Find all sofas as read-only list rows, ordered by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.SofaRow(s.id, s.name, s.price, s.material, s.manufacturer, " +
+            "s.seatingCapacity, s.isConvertible, s.upholsteryType, s.numberOfCushions, s.hasRecliners) FROM Sofa s ORDER BY s.id")
+    List<SofaRow> findAllRows();
 }
\ No newline at end of file
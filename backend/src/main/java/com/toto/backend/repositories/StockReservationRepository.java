@@ -0,0 +1,64 @@
+package com.toto.backend.repositories;
+
+import com.toto.backend.entities.StockReservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for managing StockReservation entities.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    
+    /**
+     * Find the stock reservations held by an order.
+     */
+    List<StockReservation> findByOrder_Id(Long orderId);
+    
+    /**
+     * Find the items reserved by the given orders.
+     */
+    @Query(value = "SELECT DISTINCT r.furniture_id FROM stock_reservations r WHERE r.order_id IN :orderIds",
+            nativeQuery = true)
+    List<Long> findFurnitureIdsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+    
+    /**
+     * Lock the items reserved by the given orders until the end of the transaction, in ID order.
+     * Taken before restockByOrderIdIn, whose join updates rows in no particular order, so a release and a checkout or
+     * another release sharing items always lock them in the same order and cannot deadlock. NO KEY UPDATE is the lock
+     * the stock updates take, so order item inserts referencing the rows are not blocked.
+     */
+    @Query(value = "SELECT f.id FROM furniture f WHERE f.id IN " +
+            "(SELECT r.furniture_id FROM stock_reservations r WHERE r.order_id IN :orderIds) " +
+            "ORDER BY f.id FOR NO KEY UPDATE", nativeQuery = true)
+    List<Long> lockReservedFurnitureByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+    
+    /**
+     * Return the units reserved by the given orders to their items' stock, one UPDATE per item however many of the
+     * orders reserved it. Untracked items are left untracked. Lock the items with lockReservedFurnitureByOrderIdIn
+     * first. The furniture query space is declared, as for the other stock updates.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "furniture"))
+    @Query(value = "UPDATE furniture f SET stock_quantity = f.stock_quantity + r.quantity " +
+            "FROM (SELECT furniture_id, SUM(quantity) AS quantity FROM stock_reservations " +
+            "WHERE order_id IN :orderIds GROUP BY furniture_id) r " +
+            "WHERE f.id = r.furniture_id AND f.stock_quantity IS NOT NULL", nativeQuery = true)
+    int restockByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+    
+    /**
+     * Delete the stock reservations of the given orders.
+     */
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
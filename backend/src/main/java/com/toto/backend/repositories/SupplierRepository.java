@@ -5,16 +5,28 @@ import com.toto.backend.entities.enums.PaymentMethod;
 import com.toto.backend.entities.enums.SupplierStatus;
 import com.toto.backend.entities.enums.SupplierType;
 import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for managing Supplier entities.
  * Provides methods for supplier-specific operations in a Pakistani furniture store.
+ * The read-mostly finders are served from the supplier-queries query cache region.
  */
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
@@ -67,11 +79,19 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     /**
      * Find suppliers by supplier type.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     List<Supplier> findBySupplierType(SupplierType supplierType);
     
     /**
      * Find suppliers by status.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     List<Supplier> findByStatus(SupplierStatus status);
     
     /**
@@ -107,6 +127,10 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     /**
      * Find suppliers that offer a specific wood type.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     @Query("SELECT s FROM Supplier s JOIN s.woodTypesOffered w WHERE w = :woodType")
     List<Supplier> findByWoodTypeOffered(@Param("woodType") WoodType woodType);
     
@@ -119,23 +143,122 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     /**
      * Find suppliers that service a specific city.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     @Query("SELECT s FROM Supplier s JOIN s.serviceCities c WHERE LOWER(c) = LOWER(:city)")
     List<Supplier> findByServiceCity(@Param("city") String city);
     
     /**
      * Find manufacturers (suppliers with type MANUFACTURER).
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     @Query("SELECT s FROM Supplier s WHERE s.supplierType = com.toto.backend.entities.enums.SupplierType.MANUFACTURER")
     List<Supplier> findManufacturers();
     
     /**
      * Find active suppliers (suppliers with status ACTIVE).
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     @Query("SELECT s FROM Supplier s WHERE s.status = com.toto.backend.entities.enums.SupplierStatus.ACTIVE")
     List<Supplier> findActiveSuppliers();
     
     /**
      * Find suppliers by city and supplier type.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
     List<Supplier> findByCityIgnoreCaseAndSupplierType(String city, SupplierType supplierType);
-}
\ No newline at end of file
+    
+    /**
+     * Find the current status of suppliers by ID, locking the rows until the end of the transaction.
+     * Rows are locked in ID order so concurrent bulk transitions cannot deadlock each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(s.id, s.status) " +
+            "FROM Supplier s WHERE s.id IN :ids ORDER BY s.id")
+    List<StatusSnapshot<SupplierStatus>> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the current status of suppliers in a status and city, locking the rows until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.toto.backend.repositories.projections.StatusSnapshot(s.id, s.status) " +
+            "FROM Supplier s WHERE s.status = :status AND LOWER(s.city) = LOWER(:city) ORDER BY s.id")
+    List<StatusSnapshot<SupplierStatus>> lockStatusesByStatusAndCity(@Param("status") SupplierStatus status,
+                                                                     @Param("city") String city);
+    
+    /**
+     * Move suppliers to the target status, guarded so only suppliers currently in one of the allowed statuses change.
+     * As a JPQL bulk update it also evicts the supplier cache regions.
+     */
+    @Modifying
+    @Query("UPDATE Supplier s SET s.status = :target WHERE s.id IN :ids AND s.status IN :allowed")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("target") SupplierStatus target,
+                     @Param("allowed") Collection<SupplierStatus> allowed);
+    
+    /**
+     * Find the next suppliers after the given ID in ID order, for walking every supplier in chunks.
+     */
+    List<Supplier> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    /**
+     * Find a page of all suppliers ranked by reliability score, highest first.
+     */
+    Page<Supplier> findAllByOrderByReliabilityScoreDescIdAsc(Pageable pageable);
+    
+    /**
+     * Find the most reliable suppliers in a status, highest score first.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
+    List<Supplier> findByStatusOrderByReliabilityScoreDescIdAsc(SupplierStatus status, Limit limit);
+    
+    /**
+     * Find the most reliable active suppliers of a supplier type, highest score first.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
+    @Query("SELECT s FROM Supplier s WHERE s.supplierType = :supplierType " +
+            "AND s.status = com.toto.backend.entities.enums.SupplierStatus.ACTIVE " +
+            "ORDER BY s.reliabilityScore DESC, s.id")
+    List<Supplier> findMostReliableBySupplierType(@Param("supplierType") SupplierType supplierType, Limit limit);
+    
+    /**
+     * Find the most reliable active suppliers offering a wood type, highest score first.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
+    @Query("SELECT s FROM Supplier s JOIN s.woodTypesOffered w WHERE w = :woodType " +
+            "AND s.status = com.toto.backend.entities.enums.SupplierStatus.ACTIVE " +
+            "ORDER BY s.reliabilityScore DESC, s.id")
+    List<Supplier> findMostReliableByWoodType(@Param("woodType") WoodType woodType, Limit limit);
+    
+    /**
+     * Find the most reliable active suppliers serving a city, highest score first.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "supplier-queries")
+    })
+    @Query("SELECT s FROM Supplier s JOIN s.serviceCities c WHERE LOWER(c) = LOWER(:city) " +
+            "AND s.status = com.toto.backend.entities.enums.SupplierStatus.ACTIVE " +
+            "ORDER BY s.reliabilityScore DESC, s.id")
+    List<Supplier> findMostReliableByServiceCity(@Param("city") String city, Limit limit);
+}
@@ -1,6 +1,7 @@
 package com.toto.backend.repositories;
 
 import com.toto.backend.entities.Tables;
+import com.toto.backend.repositories.projections.TablesRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -73,4 +74,11 @@ public interface TablesRepository extends JpaRepository<Tables, Long> {
      */
     List<Tables> findByManufacturerContainingIgnoreCaseAndHasGlassTop(
             String manufacturer, boolean hasGlassTop);
+    
+    /**
+     * Find all tables as read-only list rows, ordered by ID.
+     */
+    @Query("SELECT new com.toto.backend.repositories.projections.TablesRow(t.id, t.name, t.price, t.material, t.manufacturer, " +
+            "t.shape, t.seatingCapacity, t.isExtendable, t.length, t.width, t.height, t.hasGlassTop) FROM Tables t ORDER BY t.id")
+    List<TablesRow> findAllRows();
 }
\ No newline at end of file
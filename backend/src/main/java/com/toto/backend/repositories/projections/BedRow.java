@@ -0,0 +1,18 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Read-only row for the bed list screen.
+ */
+public record BedRow(
+        Long id,
+        String name,
+        double price,
+        String material,
+        String manufacturer,
+        String size,
+        boolean hasHeadboard,
+        boolean hasFootboard,
+        boolean hasStorageDrawers,
+        String mattressType,
+        boolean isAdjustable) {
+}
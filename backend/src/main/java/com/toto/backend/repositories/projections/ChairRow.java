@@ -0,0 +1,17 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Read-only row for the chair list screen.
+ */
+public record ChairRow(
+        Long id,
+        String name,
+        double price,
+        String material,
+        String manufacturer,
+        int seatingCapacity,
+        boolean hasArmrests,
+        String chairStyle,
+        boolean isAdjustable,
+        boolean hasWheels) {
+}
@@ -0,0 +1,25 @@
+package com.toto.backend.repositories.projections;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.enums.WoodType;
+
+/**
+ * Read-only summary row for furniture list screens.
+ * Built directly from a constructor expression, so it is never managed by the persistence context.
+ */
+public record FurnitureSummary(
+        Long id,
+        String name,
+        Class<? extends Furniture> type,
+        double price,
+        String material,
+        String manufacturer,
+        WoodType woodType) {
+
+    /**
+     * Simple name of the concrete furniture type (Chair, Bed, Sofa, etc.).
+     */
+    public String typeName() {
+        return type.getSimpleName();
+    }
+}
@@ -0,0 +1,8 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Current optimistic-lock version of a furniture item, read from the furniture table alone.
+ * Lets callers validate cached per-item results without loading the item.
+ */
+public record FurnitureVersion(Long id, Long version) {
+}
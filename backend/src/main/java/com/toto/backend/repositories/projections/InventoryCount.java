@@ -0,0 +1,14 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * One bucket of the inventory count rollup: the dimension it belongs to (TYPE, WOOD_TYPE, SUPPLIER or TOTAL),
+ * the bucket key within that dimension, and the number of furniture items in it.
+ */
+public interface InventoryCount {
+
+    String getDimension();
+
+    String getBucket();
+
+    long getItems();
+}
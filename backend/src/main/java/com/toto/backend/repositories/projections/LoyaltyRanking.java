@@ -0,0 +1,28 @@
+package com.toto.backend.repositories.projections;
+
+import com.toto.backend.entities.enums.CustomerType;
+
+/**
+ * One row of the loyalty leaderboard: a customer, the figures their loyalty score is built from, the score and the rank.
+ * Customers with equal scores share a rank.
+ */
+public interface LoyaltyRanking {
+
+    long getRank();
+
+    Long getCustomerId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getCity();
+
+    CustomerType getCustomerType();
+
+    int getOrderCount();
+
+    double getLifetimeValue();
+
+    int getScore();
+}
@@ -0,0 +1,15 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Read-only row for the miscellaneous furniture list screen.
+ * Custom attributes and price modifiers are left out; load the entity when they are needed.
+ */
+public record MiscFurnitureRow(
+        Long id,
+        String name,
+        double price,
+        String material,
+        String manufacturer,
+        String category,
+        String description) {
+}
@@ -0,0 +1,23 @@
+package com.toto.backend.repositories.projections;
+
+import com.toto.backend.entities.enums.PaymentMethod;
+
+import java.time.LocalDateTime;
+
+/**
+ * One payment of an order's ledger with the order's paid amount up to and including it.
+ */
+public interface PaymentLedgerEntry {
+
+    Long getId();
+
+    double getAmount();
+
+    PaymentMethod getPaymentMethod();
+
+    String getReference();
+
+    LocalDateTime getReceivedAt();
+
+    double getRunningBalance();
+}
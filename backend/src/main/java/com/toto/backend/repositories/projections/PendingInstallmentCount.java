@@ -0,0 +1,9 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Number of installments of one order that are still pending.
+ */
+public record PendingInstallmentCount(
+        Long orderId,
+        long pending) {
+}
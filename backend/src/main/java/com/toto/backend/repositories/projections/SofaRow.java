@@ -0,0 +1,17 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Read-only row for the sofa list screen.
+ */
+public record SofaRow(
+        Long id,
+        String name,
+        double price,
+        String material,
+        String manufacturer,
+        int seatingCapacity,
+        boolean isConvertible,
+        String upholsteryType,
+        int numberOfCushions,
+        boolean hasRecliners) {
+}
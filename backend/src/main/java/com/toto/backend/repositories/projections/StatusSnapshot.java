@@ -0,0 +1,9 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Current status of one entity, read under a row lock just before a bulk status transition.
+ */
+public record StatusSnapshot<S extends Enum<S>>(
+        Long id,
+        S status) {
+}
@@ -0,0 +1,9 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Advance payment of one order as stored, read before an edit to find what the edit changes.
+ */
+public record StoredAdvancePayment(
+        Long orderId,
+        Double advancePayment) {
+}
@@ -0,0 +1,19 @@
+package com.toto.backend.repositories.projections;
+
+/**
+ * Read-only row for the tables list screen.
+ */
+public record TablesRow(
+        Long id,
+        String name,
+        double price,
+        String material,
+        String manufacturer,
+        String shape,
+        int seatingCapacity,
+        boolean isExtendable,
+        double length,
+        double width,
+        double height,
+        boolean hasGlassTop) {
+}
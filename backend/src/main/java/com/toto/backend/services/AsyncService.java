@@ -0,0 +1,80 @@
+package com.toto.backend.services;
+
+import com.toto.backend.services.interfaces.IAsyncService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Service for asynchronous service calls.
+ * Every call gets its own virtual thread, and a semaphore sized from the JDBC connection pool bounds how many run at
+ * once: excess calls park cheaply on the semaphore instead of timing out inside the pool.
+ */
+@Service
+public class AsyncService implements IAsyncService, DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("async-service-", 0).factory());
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    @Autowired
+    public AsyncService(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                        @Value("${services.async.reserved-connections:2}") int reservedConnections) {
+        // Connections left over for synchronous callers and scheduled jobs
+        this.maxConcurrency = Math.max(1, connectionPoolSize - reservedConnections);
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * Run a service call on a virtual thread once a connection is free for it.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Run a service call that returns nothing on a virtual thread.
+     */
+    public CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the number of calls allowed to run at once.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Interrupt the calls still running when the application shuts down.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,10 +1,17 @@
 package com.toto.backend.services;
 
 import com.toto.backend.entities.Bed;
+import com.toto.backend.entities.Supplier;
 import com.toto.backend.repositories.BedRepository;
+import com.toto.backend.repositories.projections.BedRow;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
 import com.toto.backend.services.interfaces.IBedService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,10 +26,15 @@ import java.util.Optional;
 public class BedService implements IBedService {
 
     public BedRepository bedRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Bed> cache;
 
     @Autowired
-    public BedService(BedRepository bedRepository) {
+    public BedService(BedRepository bedRepository, IEntityCacheService entityCacheService,
+                      ApplicationEventPublisher eventPublisher) {
         this.bedRepository = bedRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("beds", Bed.class, bedRepository::findById, Supplier.class);
     }
 
     /**
@@ -32,18 +44,29 @@ public class BedService implements IBedService {
         return bedRepository.findAll();
     }
 
+    /**
+     * Find all beds as lightweight, read-only list rows.
+     */
+    @Transactional(readOnly = true)
+    public List<BedRow> findAllRows() {
+        return bedRepository.findAllRows();
+    }
+
     /**
      * Find bed by ID.
+     * Business logic: Outside a transaction, served from memory when cached; the returned bed is a detached copy, so
+     * changes stay local until it is saved.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Bed> findById(Long id) {
-        return bedRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a bed.
      */
     public Bed save(Bed bed) {
-        return bedRepository.save(bed);
+        return changed(bedRepository.save(bed));
     }
 
     /**
@@ -51,6 +74,7 @@ public class BedService implements IBedService {
      */
     public void deleteById(Long id) {
         bedRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Bed.class, id));
     }
 
     /**
@@ -145,7 +169,7 @@ public class BedService implements IBedService {
         double baseDiscount = 0.05; // 5% base discount
 
         // Premium beds (king/queen with headboard and footboard) get smaller discounts
-        if ((bed.getSize().equalsIgnoreCase("king") || bed.getSize().equalsIgnoreCase("queen")) 
+        if (("king".equalsIgnoreCase(bed.getSize()) || "queen".equalsIgnoreCase(bed.getSize()))
                 && bed.isHasHeadboard() && bed.isHasFootboard()) {
             baseDiscount = 0.03; // 3% discount for premium beds
         }
@@ -162,4 +186,9 @@ public class BedService implements IBedService {
 
         return baseDiscount;
     }
+
+    private Bed changed(Bed saved) {
+        eventPublisher.publishEvent(EntityChangedEvent.of(Bed.class, saved.getId()));
+        return saved;
+    }
 }
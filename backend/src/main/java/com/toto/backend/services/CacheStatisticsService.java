@@ -0,0 +1,64 @@
+package com.toto.backend.services;
+
+import com.toto.backend.services.interfaces.ICacheStatisticsService;
+import com.toto.backend.services.statistics.CacheRegionUsage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for second-level cache statistics.
+ * Reads the Hibernate statistics collected when hibernate.generate_statistics is enabled.
+ */
+@Service
+public class CacheStatisticsService implements ICacheStatisticsService {
+
+    // Query result regions used by the repositories; entity and collection regions are discovered from the statistics
+    private static final List<String> QUERY_REGIONS = List.of("supplier-queries", "default-query-results-region");
+
+    private final Statistics statistics;
+
+    @Autowired
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Get hit, miss and put counters for every cache region.
+     */
+    public List<CacheRegionUsage> getRegionUsage() {
+        List<CacheRegionUsage> usage = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (!QUERY_REGIONS.contains(region)) {
+                usage.add(toUsage(region, statistics.getDomainDataRegionStatistics(region)));
+            }
+        }
+        for (String region : QUERY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+            if (regionStatistics != null) {
+                usage.add(toUsage(region, regionStatistics));
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * Reset all Hibernate statistics counters.
+     */
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    private CacheRegionUsage toUsage(String region, CacheRegionStatistics regionStatistics) {
+        return new CacheRegionUsage(region,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount());
+    }
+}
@@ -0,0 +1,381 @@
+package com.toto.backend.services;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.imports.CatalogImportError;
+import com.toto.backend.services.imports.CatalogImportResult;
+import com.toto.backend.services.imports.CsvRecordReader;
+import com.toto.backend.services.interfaces.ICatalogImportService;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for bulk catalog imports.
+ * Streams CSV rows into a temporary staging table with PostgreSQL COPY and then fans them out into
+ * furniture and the subtype tables with one set-based INSERT per table.
+ */
+@Service
+@Transactional
+public class CatalogImportService implements ICatalogImportService {
+
+    private static final String STAGING_TABLE = "catalog_import_staging";
+
+    private static final Map<String, String> TYPE_ALIASES = Map.of(
+            "CHAIR", "CHAIR",
+            "BED", "BED",
+            "SOFA", "SOFA",
+            "TABLE", "TABLES",
+            "TABLES", "TABLES",
+            "MISC", "MISC");
+
+    // Columns that must be present per furniture type, on top of name and price
+    private static final Map<String, Set<StagingColumn>> REQUIRED_BY_TYPE = Map.of(
+            "CHAIR", Set.of(StagingColumn.CHAIR_STYLE),
+            "BED", Set.of(StagingColumn.SIZE),
+            "SOFA", Set.of(StagingColumn.UPHOLSTERY_TYPE),
+            "TABLES", Set.of(),
+            "MISC", Set.of());
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public CatalogImportService(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Import a furniture catalog from CSV.
+     * Business logic: Rows that fail validation or reference an unknown supplier are skipped and reported;
+     * all other rows are imported in the same transaction. The rows bypass Hibernate, so furniture caches and the
+     * dashboard counts are told that any furniture may have changed.
+     */
+    public CatalogImportResult importCatalog(Reader csv) {
+        jdbcTemplate.execute(createStagingTableSql());
+
+        List<CatalogImportError> errors = new ArrayList<>();
+        long rowsRead;
+        try {
+            rowsRead = copyIntoStaging(new CsvRecordReader(csv), errors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog CSV", e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to copy catalog rows into staging", e);
+        }
+
+        rejectUnknownSuppliers(errors);
+        assignIds();
+        Map<String, Long> importedByType = fanOut();
+
+        long rowsImported = importedByType.values().stream().mapToLong(Long::longValue).sum();
+        if (rowsImported > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.all(Furniture.class));
+        }
+        errors.sort((a, b) -> Long.compare(a.lineNumber(), b.lineNumber()));
+        return new CatalogImportResult(rowsRead, rowsImported, importedByType, errors);
+    }
+
+    private long copyIntoStaging(CsvRecordReader reader, List<CatalogImportError> errors)
+            throws IOException, SQLException {
+        List<String> header = reader.next();
+        if (header == null) {
+            return 0;
+        }
+        Map<StagingColumn, Integer> positions = mapHeader(header);
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql());
+        long rowsRead = 0;
+        try {
+            List<String> record;
+            StringBuilder line = new StringBuilder(256);
+            while ((record = reader.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowsRead++;
+                long lineNumber = reader.getRecordLineNumber();
+                try {
+                    String[] values = normalize(record, positions);
+                    line.setLength(0);
+                    line.append(lineNumber);
+                    for (String value : values) {
+                        line.append(',');
+                        appendCsvValue(line, value);
+                    }
+                    line.append('\n');
+                    byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                } catch (IllegalArgumentException e) {
+                    errors.add(new CatalogImportError(lineNumber, e.getMessage()));
+                }
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return rowsRead;
+    }
+
+    private Map<StagingColumn, Integer> mapHeader(List<String> header) {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            byName.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        Map<StagingColumn, Integer> positions = new LinkedHashMap<>();
+        for (StagingColumn column : StagingColumn.values()) {
+            Integer position = byName.get(column.columnName);
+            if (position != null) {
+                positions.put(column, position);
+            }
+        }
+
+        for (StagingColumn column : List.of(StagingColumn.FURNITURE_TYPE, StagingColumn.NAME, StagingColumn.PRICE)) {
+            if (!positions.containsKey(column)) {
+                throw new IllegalArgumentException("Catalog CSV is missing required column " + column.columnName);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Validate one record and convert it into staging column values in {@link StagingColumn} order.
+     */
+    private String[] normalize(List<String> record, Map<StagingColumn, Integer> positions) {
+        StagingColumn[] columns = StagingColumn.values();
+        String[] values = new String[columns.length];
+        for (Map.Entry<StagingColumn, Integer> entry : positions.entrySet()) {
+            int position = entry.getValue();
+            String raw = position < record.size() ? record.get(position).trim() : "";
+            if (!raw.isEmpty()) {
+                values[entry.getKey().ordinal()] = entry.getKey().convert(raw);
+            }
+        }
+
+        String type = values[StagingColumn.FURNITURE_TYPE.ordinal()];
+        if (type == null) {
+            throw new IllegalArgumentException("furniture_type is required");
+        }
+        requirePresent(values, StagingColumn.NAME);
+        requirePresent(values, StagingColumn.PRICE);
+        for (StagingColumn column : REQUIRED_BY_TYPE.get(type)) {
+            requirePresent(values, column);
+        }
+        return values;
+    }
+
+    private void requirePresent(String[] values, StagingColumn column) {
+        if (values[column.ordinal()] == null) {
+            throw new IllegalArgumentException(column.columnName + " is required");
+        }
+    }
+
+    private void appendCsvValue(StringBuilder line, String value) {
+        if (value == null) {
+            return; // Unquoted empty field is NULL in COPY CSV format
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private void rejectUnknownSuppliers(List<CatalogImportError> errors) {
+        jdbcTemplate.query(
+                "DELETE FROM " + STAGING_TABLE + " s " +
+                        "WHERE s.supplier_id IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM suppliers p WHERE p.id = s.supplier_id) " +
+                        "RETURNING s.line_no, s.supplier_id",
+                (RowCallbackHandler) rs -> errors.add(new CatalogImportError(rs.getLong("line_no"),
+                        "Unknown supplier_id " + rs.getLong("supplier_id"))));
+    }
+
+    private void assignIds() {
+        // One sequence value per row: each value is the top of a block the pooled optimizer never hands out
+        jdbcTemplate.update("UPDATE " + STAGING_TABLE + " SET id = nextval('furniture_seq')");
+    }
+
+    private Map<String, Long> fanOut() {
+        jdbcTemplate.update(
+                "INSERT INTO furniture (id, furniture_type, name, price, material, manufacturer, wood_type, supplier_id) " +
+                        "SELECT id, furniture_type, name, price, material, manufacturer, wood_type, supplier_id FROM " + STAGING_TABLE);
+
+        Map<String, Long> importedByType = new LinkedHashMap<>();
+        importedByType.put("CHAIR", (long) jdbcTemplate.update(
+                "INSERT INTO chairs (id, seating_capacity, has_armrests, chair_style, is_adjustable, has_wheels) " +
+                        "SELECT id, COALESCE(seating_capacity, 0), COALESCE(has_armrests, false), chair_style, " +
+                        "COALESCE(is_adjustable, false), COALESCE(has_wheels, false) " +
+                        "FROM " + STAGING_TABLE + " WHERE furniture_type = 'CHAIR'"));
+        importedByType.put("BED", (long) jdbcTemplate.update(
+                "INSERT INTO beds (id, size, has_headboard, has_footboard, has_storage_drawers, mattress_type, is_adjustable) " +
+                        "SELECT id, size, COALESCE(has_headboard, false), COALESCE(has_footboard, false), " +
+                        "COALESCE(has_storage_drawers, false), mattress_type, COALESCE(is_adjustable, false) " +
+                        "FROM " + STAGING_TABLE + " WHERE furniture_type = 'BED'"));
+        importedByType.put("SOFA", (long) jdbcTemplate.update(
+                "INSERT INTO sofas (id, seating_capacity, is_convertible, upholstery_type, number_of_cushions, has_recliners) " +
+                        "SELECT id, COALESCE(seating_capacity, 0), COALESCE(is_convertible, false), upholstery_type, " +
+                        "COALESCE(number_of_cushions, 0), COALESCE(has_recliners, false) " +
+                        "FROM " + STAGING_TABLE + " WHERE furniture_type = 'SOFA'"));
+        importedByType.put("TABLES", (long) jdbcTemplate.update(
+                "INSERT INTO tables (id, shape, seating_capacity, is_extendable, length, width, height, has_glass_top) " +
+                        "SELECT id, shape, COALESCE(seating_capacity, 0), COALESCE(is_extendable, false), " +
+                        "COALESCE(length, 0), COALESCE(width, 0), COALESCE(height, 0), COALESCE(has_glass_top, false) " +
+                        "FROM " + STAGING_TABLE + " WHERE furniture_type = 'TABLES'"));
+        importedByType.put("MISC", (long) jdbcTemplate.update(
+                "INSERT INTO misc_furniture (id, category, description) " +
+                        "SELECT id, category, description FROM " + STAGING_TABLE + " WHERE furniture_type = 'MISC'"));
+        return importedByType;
+    }
+
+    private String createStagingTableSql() {
+        return "CREATE TEMP TABLE IF NOT EXISTS " + STAGING_TABLE + " (line_no bigint NOT NULL, id bigint, " +
+                Arrays.stream(StagingColumn.values())
+                        .map(column -> column.columnName + " " + column.kind.sqlType)
+                        .collect(Collectors.joining(", ")) +
+                ") ON COMMIT DROP";
+    }
+
+    private String copySql() {
+        return "COPY " + STAGING_TABLE + " (line_no, " +
+                Arrays.stream(StagingColumn.values())
+                        .map(column -> column.columnName)
+                        .collect(Collectors.joining(", ")) +
+                ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    private enum Kind {
+        TEXT("text"),
+        INTEGER("integer"),
+        BIGINT("bigint"),
+        DOUBLE("double precision"),
+        BOOLEAN("boolean"),
+        WOOD_TYPE("varchar(255)"),
+        FURNITURE_TYPE("varchar(16)");
+
+        private final String sqlType;
+
+        Kind(String sqlType) {
+            this.sqlType = sqlType;
+        }
+    }
+
+    /**
+     * Staging columns, named after the CSV header and the target table columns.
+     */
+    private enum StagingColumn {
+        FURNITURE_TYPE("furniture_type", Kind.FURNITURE_TYPE),
+        NAME("name", Kind.TEXT),
+        PRICE("price", Kind.DOUBLE),
+        MATERIAL("material", Kind.TEXT),
+        MANUFACTURER("manufacturer", Kind.TEXT),
+        WOOD_TYPE("wood_type", Kind.WOOD_TYPE),
+        SUPPLIER_ID("supplier_id", Kind.BIGINT),
+        SEATING_CAPACITY("seating_capacity", Kind.INTEGER),
+        HAS_ARMRESTS("has_armrests", Kind.BOOLEAN),
+        CHAIR_STYLE("chair_style", Kind.TEXT),
+        IS_ADJUSTABLE("is_adjustable", Kind.BOOLEAN),
+        HAS_WHEELS("has_wheels", Kind.BOOLEAN),
+        SIZE("size", Kind.TEXT),
+        HAS_HEADBOARD("has_headboard", Kind.BOOLEAN),
+        HAS_FOOTBOARD("has_footboard", Kind.BOOLEAN),
+        HAS_STORAGE_DRAWERS("has_storage_drawers", Kind.BOOLEAN),
+        MATTRESS_TYPE("mattress_type", Kind.TEXT),
+        IS_CONVERTIBLE("is_convertible", Kind.BOOLEAN),
+        UPHOLSTERY_TYPE("upholstery_type", Kind.TEXT),
+        NUMBER_OF_CUSHIONS("number_of_cushions", Kind.INTEGER),
+        HAS_RECLINERS("has_recliners", Kind.BOOLEAN),
+        SHAPE("shape", Kind.TEXT),
+        IS_EXTENDABLE("is_extendable", Kind.BOOLEAN),
+        LENGTH("length", Kind.DOUBLE),
+        WIDTH("width", Kind.DOUBLE),
+        HEIGHT("height", Kind.DOUBLE),
+        HAS_GLASS_TOP("has_glass_top", Kind.BOOLEAN),
+        CATEGORY("category", Kind.TEXT),
+        DESCRIPTION("description", Kind.TEXT);
+
+        private final String columnName;
+        private final Kind kind;
+
+        StagingColumn(String columnName, Kind kind) {
+            this.columnName = columnName;
+            this.kind = kind;
+        }
+
+        /**
+         * Convert a non-empty raw CSV value, throwing IllegalArgumentException with a row-level message if invalid.
+         */
+        private String convert(String raw) {
+            try {
+                return switch (kind) {
+                    case TEXT -> raw;
+                    case INTEGER -> String.valueOf(Integer.parseInt(raw));
+                    case BIGINT -> String.valueOf(Long.parseLong(raw));
+                    case DOUBLE -> {
+                        double value = Double.parseDouble(raw);
+                        if (!Double.isFinite(value) || value < 0) {
+                            throw new IllegalArgumentException(columnName + " must be a non-negative number: " + raw);
+                        }
+                        yield String.valueOf(value);
+                    }
+                    case BOOLEAN -> switch (raw.toLowerCase(Locale.ROOT)) {
+                        case "true", "t", "yes", "y", "1" -> "true";
+                        case "false", "f", "no", "n", "0" -> "false";
+                        default -> throw new IllegalArgumentException(columnName + " must be true or false: " + raw);
+                    };
+                    case WOOD_TYPE -> WoodType.valueOf(raw.toUpperCase(Locale.ROOT)).name();
+                    case FURNITURE_TYPE -> {
+                        String type = TYPE_ALIASES.get(raw.toUpperCase(Locale.ROOT));
+                        if (type == null) {
+                            throw new IllegalArgumentException("Unknown furniture_type: " + raw);
+                        }
+                        yield type;
+                    }
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(columnName + " is not a valid number: " + raw);
+            } catch (IllegalArgumentException e) {
+                if (kind == Kind.WOOD_TYPE) {
+                    throw new IllegalArgumentException("Unknown wood_type: " + raw);
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.toto.backend.services;
 
 import com.toto.backend.entities.Chair;
+import com.toto.backend.entities.Supplier;
 import com.toto.backend.repositories.ChairRepository;
+import com.toto.backend.repositories.projections.ChairRow;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
 import com.toto.backend.services.interfaces.IChairService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,10 +26,16 @@ import java.util.Optional;
 public class ChairService implements IChairService {
 
     private final ChairRepository chairRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Chair> cache;
 
     @Autowired
-    public ChairService(ChairRepository chairRepository) {
+    public ChairService(ChairRepository chairRepository, IEntityCacheService entityCacheService,
+                        ApplicationEventPublisher eventPublisher) {
         this.chairRepository = chairRepository;
+        this.eventPublisher = eventPublisher;
+        // Cached chairs embed their supplier, so a supplier change drops the whole cache
+        this.cache = entityCacheService.create("chairs", Chair.class, chairRepository::findById, Supplier.class);
     }
 
     /**
@@ -32,18 +45,29 @@ public class ChairService implements IChairService {
         return chairRepository.findAll();
     }
 
+    /**
+     * Find all chairs as lightweight, read-only list rows.
+     */
+    @Transactional(readOnly = true)
+    public List<ChairRow> findAllRows() {
+        return chairRepository.findAllRows();
+    }
+
     /**
      * Find chair by ID.
+     * Business logic: Outside a transaction, served from memory when cached; the returned chair is a detached copy, so
+     * changes stay local until it is saved.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Chair> findById(Long id) {
-        return chairRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a chair.
      */
     public Chair save(Chair chair) {
-        return chairRepository.save(chair);
+        return changed(chairRepository.save(chair));
     }
 
     /**
@@ -51,6 +75,7 @@ public class ChairService implements IChairService {
      */
     public void deleteById(Long id) {
         chairRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Chair.class, id));
     }
 
     /**
@@ -146,7 +171,7 @@ public class ChairService implements IChairService {
         }
 
         // Dining chairs get smaller discounts
-        if (chair.getChairStyle().toLowerCase().contains("dining")) {
+        if (chair.getChairStyle() != null && chair.getChairStyle().toLowerCase().contains("dining")) {
             baseDiscount = Math.max(0.02, baseDiscount - 0.02); // Reduce by 2% but minimum 2%
         }
 
@@ -168,4 +193,9 @@ public class ChairService implements IChairService {
             return "General chairs: Inspect annually for loose parts and wear.";
         }
     }
+
+    private Chair changed(Chair saved) {
+        eventPublisher.publishEvent(EntityChangedEvent.of(Chair.class, saved.getId()));
+        return saved;
+    }
 }
@@ -1,18 +1,46 @@
 package com.toto.backend.services;
 
+import com.toto.backend.entities.BatchJobWatermark;
 import com.toto.backend.entities.Customer;
 import com.toto.backend.entities.enums.CustomerStatus;
 import com.toto.backend.entities.enums.CustomerType;
 import com.toto.backend.entities.enums.PaymentMethod;
+import com.toto.backend.repositories.BatchJobWatermarkRepository;
 import com.toto.backend.repositories.CustomerRepository;
+import com.toto.backend.repositories.projections.LoyaltyRanking;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import com.toto.backend.services.batch.AscendingIdChunks;
+import com.toto.backend.services.batch.BatchProgress;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
 import com.toto.backend.services.interfaces.ICustomerService;
+import com.toto.backend.services.interfaces.IEntityCacheService;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Service for managing Customer entities.
@@ -22,11 +50,50 @@ import java.util.Optional;
 @Transactional
 public class CustomerService implements ICustomerService {
 
+    // Matches hibernate.jdbc.batch_size so each chunk is flushed as whole JDBC batches
+    private static final int BATCH_SIZE = 50;
+
+    // Customers scanned per bulk UPDATE when marking inactive customers
+    private static final int INACTIVE_SCAN_CHUNK_SIZE = 10_000;
+
+    // Customers locked and reconciled per chunk transaction
+    private static final int ORDER_STATS_CHUNK_SIZE = 1_000;
+
+    // Orders a customer needs to be classified as VIP
+    private static final int VIP_MIN_ORDERS = 5;
+
+    private static final String VIP_RECLASSIFICATION_JOB = "vip-reclassification";
+
+    // Incremental runs re-read a little before the previous start, catching orders committed while it ran
+    private static final Duration VIP_RECLASSIFICATION_OVERLAP = Duration.ofMinutes(10);
+
+    // Customers locked and changed per bulk status statement, keeping the IN list far below the bind parameter limit
+    private static final int STATUS_UPDATE_BATCH_SIZE = 1_000;
+
+    // Statuses a customer may be moved from, per target status
+    private static final Map<CustomerStatus, Set<CustomerStatus>> ALLOWED_SOURCE_STATUSES = Map.of(
+            CustomerStatus.ACTIVE, Set.of(CustomerStatus.INACTIVE, CustomerStatus.BLOCKED),
+            CustomerStatus.INACTIVE, Set.of(CustomerStatus.ACTIVE),
+            CustomerStatus.BLOCKED, Set.of(CustomerStatus.ACTIVE, CustomerStatus.INACTIVE));
+
     private final CustomerRepository customerRepository;
+    private final BatchJobWatermarkRepository batchJobWatermarkRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Customer> cache;
 
     @Autowired
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository, BatchJobWatermarkRepository batchJobWatermarkRepository,
+                           EntityManager entityManager, PlatformTransactionManager transactionManager,
+                           IEntityCacheService entityCacheService, ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
+        this.batchJobWatermarkRepository = batchJobWatermarkRepository;
+        this.entityManager = entityManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("customers", Customer.class, customerRepository::findById);
     }
 
     /**
@@ -38,26 +105,42 @@ public class CustomerService implements ICustomerService {
 
     /**
      * Find customer by ID.
+     * Business logic: Outside a transaction, served from memory when cached, including the order statistics, which are
+     * evicted whenever OrderService refreshes them; the returned customer is a detached copy, not shared with other
+     * callers.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Customer> findById(Long id) {
-        return customerRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a customer.
      */
     public Customer save(Customer customer) {
-        // Set registration date for new customers
-        if (customer.getId() == null && customer.getRegistrationDate() == null) {
-            customer.setRegistrationDate(LocalDateTime.now());
-        }
+        applyDefaults(customer);
+        Customer saved = customerRepository.save(customer);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, saved.getId()));
+        return saved;
+    }
 
-        // Set default status for new customers if not specified
-        if (customer.getStatus() == null) {
-            customer.setStatus(CustomerStatus.ACTIVE);
+    /**
+     * Save many customers in JDBC batches.
+     * Business logic: Flushes and detaches every batch so bulk imports run in constant memory; entities the caller
+     * already manages stay managed. The returned customers are detached.
+     */
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = new ArrayList<>(customers.size());
+        for (int from = 0; from < customers.size(); from += BATCH_SIZE) {
+            List<Customer> chunk = customers.subList(from, Math.min(from + BATCH_SIZE, customers.size()));
+            chunk.forEach(this::applyDefaults);
+            List<Customer> savedChunk = customerRepository.saveAll(chunk);
+            entityManager.flush();
+            savedChunk.forEach(entityManager::detach);
+            saved.addAll(savedChunk);
         }
-
-        return customerRepository.save(customer);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, saved.stream().map(Customer::getId).toList()));
+        return saved;
     }
 
     /**
@@ -65,6 +148,7 @@ public class CustomerService implements ICustomerService {
      */
     public void deleteById(Long id) {
         customerRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, id));
     }
 
     /**
@@ -83,9 +167,25 @@ public class CustomerService implements ICustomerService {
 
     /**
      * Find customers by full name.
+     * Business logic: A blank name matches every customer, as an empty substring does; a null name matches none.
      */
     public List<Customer> findByFullName(String name) {
-        return customerRepository.findByFullNameContainingIgnoreCase(name);
+        if (name == null) {
+            return List.of();
+        }
+        return customerRepository.findByFullNameContainingIgnoreCase(toSearchTerm(name));
+    }
+
+    /**
+     * Search customers by partial name or phone number, best matches first.
+     * Business logic: Name and phone substring matches rank above fuzzy name matches (e.g. misspellings).
+     */
+    public List<Customer> searchCustomers(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        return customerRepository.searchRanked(escapeLike(term), term, limit);
     }
 
     /**
@@ -201,27 +301,57 @@ public class CustomerService implements ICustomerService {
         Optional<Customer> customerOpt = customerRepository.findById(customerId);
         if (customerOpt.isPresent()) {
             Customer customer = customerOpt.get();
-            if (customer.getOrders() != null && customer.getOrders().size() >= 5 
-                    && customer.getCustomerType() != CustomerType.VIP) {
+            if (customer.getOrderCount() >= VIP_MIN_ORDERS && customer.getCustomerType() != CustomerType.VIP) {
                 customer.setCustomerType(CustomerType.VIP);
                 customerRepository.save(customer);
+                eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, customerId));
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Reclassify customers as VIP, looking only at customers who ordered since the previous run.
+     * Business logic: Runs nightly; the first run, with no previous run recorded, considers every customer.
+     * The run is recorded only when the promotion commits, so a failed run is retried over the same window.
+     */
+    @Scheduled(cron = "${customers.vip-reclassification.cron:0 30 2 * * *}")
+    public int reclassifyVipCustomers() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime ordersSince = batchJobWatermarkRepository.findById(VIP_RECLASSIFICATION_JOB)
+                .map(watermark -> watermark.getLastStartedAt().minus(VIP_RECLASSIFICATION_OVERLAP))
+                .orElse(null);
+        int promoted = reclassifyVipCustomers(ordersSince);
+        batchJobWatermarkRepository.save(new BatchJobWatermark(VIP_RECLASSIFICATION_JOB, startedAt));
+        return promoted;
+    }
+
+    /**
+     * Promote every customer with 5 or more orders to VIP in one bulk update.
+     * Business logic: Reads the order count kept on each customer row; when ordersSince is given only customers whose
+     * last order is on or after it are considered, otherwise all customers are.
+     */
+    public int reclassifyVipCustomers(LocalDateTime ordersSince) {
+        int promoted = ordersSince == null
+                ? customerRepository.promoteToVip(VIP_MIN_ORDERS)
+                : customerRepository.promoteToVipWithOrdersSince(ordersSince, VIP_MIN_ORDERS);
+        if (promoted > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.all(Customer.class));
+        }
+        return promoted;
+    }
+
     /**
      * Calculate customer loyalty score based on order history and registration duration.
      * Business logic: Score is based on number of orders and years as a customer.
+     * The leaderboard queries in CustomerRepository compute the same score in SQL; keep the two in step.
      */
     public int calculateLoyaltyScore(Customer customer) {
         int score = 0;
 
         // Points for each order
-        if (customer.getOrders() != null) {
-            score += customer.getOrders().size() * 10;
-        }
+        score += customer.getOrderCount() * 10;
 
         // Points for registration duration
         if (customer.getRegistrationDate() != null) {
@@ -238,36 +368,150 @@ public class CustomerService implements ICustomerService {
         return score;
     }
 
+    /**
+     * Find a page of the loyalty leaderboard, optionally filtered by city and customer type (null for all).
+     * Business logic: Scores use the calculateLoyaltyScore formula and are computed for all customers in one query;
+     * the page's sort is ignored because the leaderboard is always ordered by score, highest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<LoyaltyRanking> findLoyaltyLeaderboard(String city, CustomerType customerType, Pageable pageable) {
+        return customerRepository.findLoyaltyLeaderboard(city, customerType == null ? null : customerType.name(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * Find the k most loyal customers, optionally filtered by city and customer type (null for all).
+     */
+    @Transactional(readOnly = true)
+    public List<LoyaltyRanking> findTopLoyalCustomers(int k, String city, CustomerType customerType) {
+        return customerRepository.findTopLoyaltyScores(k, city, customerType == null ? null : customerType.name());
+    }
+
     /**
      * Mark inactive customers based on last order date.
      * Business logic: Customers with no orders in the last year are marked as inactive.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int markInactiveCustomers() {
-        LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        List<Customer> customers = customerRepository.findAll();
-        int count = 0;
-
-        for (Customer customer : customers) {
-            if (customer.getStatus() == CustomerStatus.ACTIVE) {
-                boolean hasRecentOrder = false;
-
-                if (customer.getOrders() != null && !customer.getOrders().isEmpty()) {
-                    for (var order : customer.getOrders()) {
-                        if (order.getOrderDate().isAfter(oneYearAgo)) {
-                            hasRecentOrder = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (!hasRecentOrder) {
-                    customer.setStatus(CustomerStatus.INACTIVE);
-                    customerRepository.save(customer);
-                    count++;
-                }
-            }
+        return markInactiveCustomers(LocalDateTime.now().minusYears(1), INACTIVE_SCAN_CHUNK_SIZE, progress -> { });
+    }
+
+    /**
+     * Mark active customers with no orders after the cutoff as inactive, one keyset chunk of customer IDs at a time.
+     * Business logic: Each chunk is a single bulk UPDATE on the customers' last order date, committed in its own
+     * transaction; no entities are loaded, row locks are held only per chunk, and progress is reported after each one.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int markInactiveCustomers(LocalDateTime cutoff, int chunkSize, Consumer<BatchProgress> progressListener) {
+        Long maxId = customerRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int affected = 0;
+        int chunks = 0;
+        long afterId = 0;
+        Long chunkEndId;
+        while ((chunkEndId = customerRepository.findChunkEndId(afterId, chunkSize)) != null) {
+            long fromId = afterId;
+            long throughId = chunkEndId;
+            affected += chunkTransaction.execute(status ->
+                    customerRepository.markInactiveWithoutOrdersSince(fromId, throughId, cutoff));
+            afterId = chunkEndId;
+            progressListener.accept(new BatchProgress(++chunks, afterId, maxId, affected));
+        }
+
+        if (affected > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.all(Customer.class));
+        }
+        return affected;
+    }
+
+    /**
+     * Recompute every customer's order statistics from their orders and correct the ones that drifted.
+     * Business logic: Runs nightly, one keyset chunk of customers per transaction. A chunk's customers are locked
+     * before they are recomputed, the same way OrderService refreshes them, so a concurrent order write is never
+     * overwritten with totals that miss it.
+     */
+    @Scheduled(cron = "${customers.order-stats-reconciliation.cron:0 0 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileOrderStats() {
+        int corrected = 0;
+        long afterId = 0;
+        Long chunkEndId;
+        while ((chunkEndId = customerRepository.findChunkEndId(afterId, ORDER_STATS_CHUNK_SIZE)) != null) {
+            long fromId = afterId;
+            long throughId = chunkEndId;
+            corrected += chunkTransaction.execute(status -> {
+                customerRepository.lockByIdRange(fromId, throughId);
+                return customerRepository.reconcileOrderStats(fromId, throughId);
+            });
+            afterId = chunkEndId;
+        }
+
+        if (corrected > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.all(Customer.class));
+        }
+        return corrected;
+    }
+
+    /**
+     * Move customers to a new status in bulk.
+     * Business logic: The customers are locked, checked against the statuses the target may be reached from and changed
+     * with set-based UPDATEs; blocked customers can only be reactivated, never silently marked inactive.
+     */
+    public StatusTransitionResult<CustomerStatus> transitionCustomers(Collection<Long> customerIds,
+                                                                      CustomerStatus targetStatus) {
+        Set<Long> requestedIds = new LinkedHashSet<>(customerIds);
+        List<StatusSnapshot<CustomerStatus>> current = AscendingIdChunks.collect(
+                requestedIds, STATUS_UPDATE_BATCH_SIZE, customerRepository::lockStatusesByIdIn);
+        return applyCustomerTransition(requestedIds, current, targetStatus);
+    }
+
+    /**
+     * Move every customer in a status and city to a new status.
+     */
+    public StatusTransitionResult<CustomerStatus> transitionCustomers(CustomerStatus currentStatus, String city,
+                                                                      CustomerStatus targetStatus) {
+        List<StatusSnapshot<CustomerStatus>> current = customerRepository.lockStatusesByStatusAndCity(currentStatus, city);
+        return applyCustomerTransition(current.stream().map(StatusSnapshot::id).toList(), current, targetStatus);
+    }
+
+    private StatusTransitionResult<CustomerStatus> applyCustomerTransition(Collection<Long> requestedIds,
+                                                                           List<StatusSnapshot<CustomerStatus>> current,
+                                                                           CustomerStatus targetStatus) {
+        Set<CustomerStatus> allowed = ALLOWED_SOURCE_STATUSES.get(targetStatus);
+        StatusTransitionResult<CustomerStatus> result =
+                StatusTransitionResult.of(targetStatus, requestedIds, current, allowed);
+        for (List<Long> batch : result.transitionedIdBatches(STATUS_UPDATE_BATCH_SIZE)) {
+            customerRepository.updateStatus(batch, targetStatus, allowed);
         }
+        eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, result.transitionedIds()));
+        return result;
+    }
+
+    private void applyDefaults(Customer customer) {
+        // Set registration date for new customers
+        if (customer.getId() == null && customer.getRegistrationDate() == null) {
+            customer.setRegistrationDate(LocalDateTime.now());
+        }
+
+        // Set default status for new customers if not specified
+        if (customer.getStatus() == null) {
+            customer.setStatus(CustomerStatus.ACTIVE);
+        }
+    }
+
+    private String toSearchTerm(String query) {
+        // Search columns are lower-cased
+        return escapeLike(query.trim().toLowerCase(Locale.ROOT));
+    }
 
-        return count;
+    private String escapeLike(String term) {
+        // Escape LIKE wildcards so user input is matched literally
+        return term
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 }
@@ -0,0 +1,110 @@
+package com.toto.backend.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
+import com.toto.backend.services.statistics.EntityCacheUsage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Service for the service-level entity caches.
+ * Caches are Caffeine caches bounded by size, expiring after a TTL and refreshed in the background once an entry is
+ * older than the refresh interval. Writes are not cached through; services publish EntityChangedEvents and the
+ * affected entries are evicted.
+ */
+@Service
+public class EntityCacheService implements IEntityCacheService {
+
+    private final Map<String, EntityCache<?>> caches = new ConcurrentHashMap<>();
+    private final TransactionTemplate loadTransaction;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final Duration refreshAfterWrite;
+
+    @Autowired
+    public EntityCacheService(PlatformTransactionManager transactionManager,
+                              @Value("${services.entity-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${services.entity-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                              @Value("${services.entity-cache.refresh-after-write:1m}") Duration refreshAfterWrite) {
+        // Entities are loaded in a transaction of their own, so the cached instance is detached and never shared
+        // with the persistence context of the caller that missed
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    /**
+     * Create a cache of detached entities by ID; the entities are serializable so each hit can be handed out as a copy.
+     */
+    public <T extends Serializable> EntityCache<T> create(String name, Class<T> entityType,
+                                                          Function<Long, Optional<T>> loader,
+                                                          Class<?>... embeddedTypes) {
+        EntityCache<T> cache = new EntityCache<>(name, entityType, Set.of(embeddedTypes), loader, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build(id -> loadTransaction.execute(status -> loader.apply(id).orElse(null))));
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Entity cache " + name + " already exists");
+        }
+        return cache;
+    }
+
+    /**
+     * Evict the entries affected by an entity change as soon as it is published; this is the only eviction for
+     * changes published outside a transaction.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        caches.values().forEach(cache -> cache.evict(event));
+    }
+
+    /**
+     * Evict the affected entries again once the writing transaction has committed or rolled back: a concurrent lookup
+     * may have cached the pre-commit state in between.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onEntityChangeCompleted(EntityChangedEvent event) {
+        onEntityChanged(event);
+    }
+
+    /**
+     * Get counters for every entity cache.
+     */
+    public List<EntityCacheUsage> getCacheUsage() {
+        return caches.values().stream()
+                .map(EntityCache::usage)
+                .sorted(Comparator.comparing(EntityCacheUsage::cache))
+                .toList();
+    }
+
+    /**
+     * Drop every entry of every entity cache.
+     */
+    public void clearAll() {
+        caches.values().forEach(EntityCache::clear);
+    }
+}
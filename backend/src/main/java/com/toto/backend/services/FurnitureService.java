@@ -3,11 +3,19 @@ package com.toto.backend.services;
 import com.toto.backend.entities.Furniture;
 import com.toto.backend.entities.enums.WoodType;
 import com.toto.backend.repositories.FurnitureRepository;
+import com.toto.backend.repositories.projections.FurnitureSummary;
+import com.toto.backend.services.cache.EntityChangedEvent;
 import com.toto.backend.services.interfaces.IFurnitureService;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,18 +27,26 @@ import java.util.Optional;
 @Transactional
 public class FurnitureService implements IFurnitureService {
 
+    // Matches hibernate.jdbc.batch_size so each chunk is flushed as whole JDBC batches
+    private static final int BATCH_SIZE = 50;
+
     private final FurnitureRepository furnitureRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public FurnitureService(FurnitureRepository furnitureRepository) {
+    public FurnitureService(FurnitureRepository furnitureRepository, EntityManager entityManager,
+                            ApplicationEventPublisher eventPublisher) {
         this.furnitureRepository = furnitureRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Create a new furniture item.
      */
     public void createFurniture(Furniture furniture) {
-        furnitureRepository.save(furniture);
+        save(furniture);
     }
 
     /**
@@ -40,6 +56,23 @@ public class FurnitureService implements IFurnitureService {
         return furnitureRepository.findAll();
     }
 
+    /**
+     * Find all furniture as lightweight summary rows.
+     * Read-only: rows are plain records, so nothing is tracked or dirty-checked and the session is never flushed.
+     */
+    @Transactional(readOnly = true)
+    public List<FurnitureSummary> findAllSummaries() {
+        return furnitureRepository.findAllSummaries();
+    }
+
+    /**
+     * Find a page of furniture as lightweight summary rows.
+     */
+    @Transactional(readOnly = true)
+    public Page<FurnitureSummary> findSummaries(Pageable pageable) {
+        return furnitureRepository.findSummaries(pageable);
+    }
+
     /**
      * Find furniture by ID.
      */
@@ -51,7 +84,27 @@ public class FurnitureService implements IFurnitureService {
      * Save a furniture item.
      */
     public Furniture save(Furniture furniture) {
-        return furnitureRepository.save(furniture);
+        Furniture saved = furnitureRepository.save(furniture);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Furniture.class, saved.getId()));
+        return saved;
+    }
+
+    /**
+     * Save many furniture items in JDBC batches.
+     * Business logic: Flushes and detaches every batch so large catalog loads run in constant memory; entities the
+     * caller already manages stay managed. The returned items are detached.
+     */
+    public <T extends Furniture> List<T> saveAll(List<T> furniture) {
+        List<T> saved = new ArrayList<>(furniture.size());
+        for (int from = 0; from < furniture.size(); from += BATCH_SIZE) {
+            List<T> chunk = furniture.subList(from, Math.min(from + BATCH_SIZE, furniture.size()));
+            List<T> savedChunk = furnitureRepository.saveAll(chunk);
+            entityManager.flush();
+            savedChunk.forEach(entityManager::detach);
+            saved.addAll(savedChunk);
+        }
+        eventPublisher.publishEvent(EntityChangedEvent.of(Furniture.class, saved.stream().map(Furniture::getId).toList()));
+        return saved;
     }
 
     /**
@@ -59,6 +112,7 @@ public class FurnitureService implements IFurnitureService {
      */
     public void deleteById(Long id) {
         furnitureRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Furniture.class, id));
     }
 
     /**
@@ -117,6 +171,40 @@ public class FurnitureService implements IFurnitureService {
         return furnitureRepository.findTopSellingFurniture(limit);
     }
 
+    /**
+     * Find furniture of one concrete type as summary rows.
+     * Business logic: Cross-type catalog searches return summaries, which read the furniture table alone
+     * instead of outer-joining every subtype table; load the entity by ID when the details are needed.
+     */
+    @Transactional(readOnly = true)
+    public List<FurnitureSummary> findSummariesByType(Class<? extends Furniture> type) {
+        return furnitureRepository.findSummariesByType(type);
+    }
+
+    /**
+     * Find furniture by price range as summary rows.
+     */
+    @Transactional(readOnly = true)
+    public List<FurnitureSummary> findSummariesByPriceRange(double minPrice, double maxPrice) {
+        return furnitureRepository.findSummariesByPriceBetween(minPrice, maxPrice);
+    }
+
+    /**
+     * Find furniture by wood type as summary rows.
+     */
+    @Transactional(readOnly = true)
+    public List<FurnitureSummary> findSummariesByWoodType(WoodType woodType) {
+        return furnitureRepository.findSummariesByWoodType(woodType);
+    }
+
+    /**
+     * Find top selling furniture items as summary rows.
+     */
+    @Transactional(readOnly = true)
+    public List<FurnitureSummary> findTopSellingSummaries(int limit) {
+        return furnitureRepository.findTopSellingSummaries(Limit.of(limit));
+    }
+
     /**
      * Find furniture by supplier city.
      */
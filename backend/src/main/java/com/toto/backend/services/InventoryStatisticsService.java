@@ -0,0 +1,117 @@
+package com.toto.backend.services;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.repositories.FurnitureRepository;
+import com.toto.backend.repositories.projections.InventoryCount;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IInventoryStatisticsService;
+import com.toto.backend.services.statistics.InventoryStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service for inventory statistics.
+ * Computes all dashboard counts with one grouped scan of the furniture table and caches the result briefly; furniture
+ * and supplier changes drop the cached counts.
+ */
+@Service
+@Transactional(readOnly = true)
+public class InventoryStatisticsService implements IInventoryStatisticsService {
+
+    private final FurnitureRepository furnitureRepository;
+    private final long ttlNanos;
+
+    private volatile CachedStatistics cached;
+
+    @Autowired
+    public InventoryStatisticsService(FurnitureRepository furnitureRepository,
+                                      @Value("${inventory.statistics.ttl:30s}") Duration ttl) {
+        this.furnitureRepository = furnitureRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Get catalog counts per furniture type, wood type and supplier.
+     * Business logic: Served from cache until the TTL expires, then recomputed with a single GROUPING SETS query.
+     */
+    public InventoryStatistics getStatistics() {
+        CachedStatistics current = cached;
+        if (current != null && System.nanoTime() - current.expiresAtNanos() < 0) {
+            return current.statistics();
+        }
+        InventoryStatistics statistics = load();
+        cached = new CachedStatistics(statistics, System.nanoTime() + ttlNanos);
+        return statistics;
+    }
+
+    /**
+     * Drop the cached counts so the next call recomputes them.
+     */
+    public void evict() {
+        cached = null;
+    }
+
+    /**
+     * Drop the cached counts when furniture or suppliers change.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        Class<?> type = event.entityType();
+        if (!event.isEmpty() && (Furniture.class.isAssignableFrom(type) || Supplier.class.isAssignableFrom(type))) {
+            evict();
+        }
+    }
+
+    /**
+     * Drop the cached counts again once the writing transaction has completed: a concurrent call may have counted
+     * the pre-commit state in between.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onEntityChangeCompleted(EntityChangedEvent event) {
+        onEntityChanged(event);
+    }
+
+    private InventoryStatistics load() {
+        long total = 0;
+        Map<String, Long> byType = new LinkedHashMap<>();
+        Map<WoodType, Long> byWoodType = new EnumMap<>(WoodType.class);
+        Map<Long, Long> bySupplier = new LinkedHashMap<>();
+
+        for (InventoryCount count : furnitureRepository.countInventory()) {
+            switch (count.getDimension()) {
+                case "TOTAL" -> total = count.getItems();
+                case "TYPE" -> byType.put(count.getBucket(), count.getItems());
+                case "WOOD_TYPE" -> {
+                    if (count.getBucket() != null) {
+                        byWoodType.put(WoodType.valueOf(count.getBucket()), count.getItems());
+                    }
+                }
+                case "SUPPLIER" -> {
+                    if (count.getBucket() != null) {
+                        bySupplier.put(Long.valueOf(count.getBucket()), count.getItems());
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown inventory dimension: " + count.getDimension());
+            }
+        }
+
+        return new InventoryStatistics(total, Map.copyOf(byType), Map.copyOf(byWoodType), Map.copyOf(bySupplier),
+                Instant.now());
+    }
+
+    private record CachedStatistics(InventoryStatistics statistics, long expiresAtNanos) {
+    }
+}
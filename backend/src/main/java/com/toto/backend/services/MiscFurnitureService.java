@@ -1,10 +1,17 @@
 package com.toto.backend.services;
 
 import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.entities.Supplier;
 import com.toto.backend.repositories.MiscFurnitureRepository;
+import com.toto.backend.repositories.projections.MiscFurnitureRow;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
 import com.toto.backend.services.interfaces.IMiscFurnitureService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,10 +27,15 @@ import java.util.Optional;
 public class MiscFurnitureService implements IMiscFurnitureService {
 
     private final MiscFurnitureRepository miscFurnitureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<MiscFurniture> cache;
 
     @Autowired
-    public MiscFurnitureService(MiscFurnitureRepository miscFurnitureRepository) {
+    public MiscFurnitureService(MiscFurnitureRepository miscFurnitureRepository, IEntityCacheService entityCacheService,
+                                ApplicationEventPublisher eventPublisher) {
         this.miscFurnitureRepository = miscFurnitureRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("misc-furniture", MiscFurniture.class, miscFurnitureRepository::findById, Supplier.class);
     }
 
     /**
@@ -33,18 +45,29 @@ public class MiscFurnitureService implements IMiscFurnitureService {
         return miscFurnitureRepository.findAll();
     }
 
+    /**
+     * Find all miscellaneous furniture items as lightweight, read-only list rows.
+     */
+    @Transactional(readOnly = true)
+    public List<MiscFurnitureRow> findAllRows() {
+        return miscFurnitureRepository.findAllRows();
+    }
+
     /**
      * Find miscellaneous furniture by ID.
+     * Business logic: Outside a transaction, served from memory when cached; the returned miscellaneous furniture item
+     * is a detached copy, so changes stay local until it is saved.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<MiscFurniture> findById(Long id) {
-        return miscFurnitureRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a miscellaneous furniture item.
      */
     public MiscFurniture save(MiscFurniture miscFurniture) {
-        return miscFurnitureRepository.save(miscFurniture);
+        return changed(miscFurnitureRepository.save(miscFurniture));
     }
 
     /**
@@ -52,6 +75,7 @@ public class MiscFurnitureService implements IMiscFurnitureService {
      */
     public void deleteById(Long id) {
         miscFurnitureRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(MiscFurniture.class, id));
     }
 
     /**
@@ -134,7 +158,7 @@ public class MiscFurnitureService implements IMiscFurnitureService {
             MiscFurniture furniture = furnitureOpt.get();
             Map<String, String> attributes = furniture.getCustomAttributes();
             attributes.put(attributeName, attributeValue);
-            return miscFurnitureRepository.save(furniture);
+            return changed(miscFurnitureRepository.save(furniture));
         }
         return null;
     }
@@ -149,7 +173,7 @@ public class MiscFurnitureService implements IMiscFurnitureService {
             MiscFurniture furniture = furnitureOpt.get();
             Map<String, String> attributes = furniture.getCustomAttributes();
             attributes.remove(attributeName);
-            return miscFurnitureRepository.save(furniture);
+            return changed(miscFurnitureRepository.save(furniture));
         }
         return null;
     }
@@ -164,7 +188,7 @@ public class MiscFurnitureService implements IMiscFurnitureService {
             MiscFurniture furniture = furnitureOpt.get();
             Map<String, Double> modifiers = furniture.getPriceModifiers();
             modifiers.put(modifierName, modifierValue);
-            return miscFurnitureRepository.save(furniture);
+            return changed(miscFurnitureRepository.save(furniture));
         }
         return null;
     }
@@ -179,7 +203,7 @@ public class MiscFurnitureService implements IMiscFurnitureService {
             MiscFurniture furniture = furnitureOpt.get();
             Map<String, Double> modifiers = furniture.getPriceModifiers();
             modifiers.remove(modifierName);
-            return miscFurnitureRepository.save(furniture);
+            return changed(miscFurnitureRepository.save(furniture));
         }
         return null;
     }
@@ -243,4 +267,9 @@ public class MiscFurnitureService implements IMiscFurnitureService {
         // Default category
         return "Miscellaneous";
     }
+
+    private MiscFurniture changed(MiscFurniture saved) {
+        eventPublisher.publishEvent(EntityChangedEvent.of(MiscFurniture.class, saved.getId()));
+        return saved;
+    }
 }
@@ -0,0 +1,255 @@
+package com.toto.backend.services;
+
+import com.toto.backend.entities.Bed;
+import com.toto.backend.entities.Chair;
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.entities.Order;
+import com.toto.backend.entities.Sofa;
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.Tables;
+import com.toto.backend.repositories.FurnitureRepository;
+import com.toto.backend.repositories.projections.FurnitureVersion;
+import com.toto.backend.services.cache.AfterCommit;
+import com.toto.backend.services.interfaces.IBedService;
+import com.toto.backend.services.interfaces.IChairService;
+import com.toto.backend.services.interfaces.IOrderPricingService;
+import com.toto.backend.services.interfaces.ISofaService;
+import com.toto.backend.services.interfaces.ITablesService;
+import com.toto.backend.services.pricing.CartItem;
+import com.toto.backend.services.pricing.CartQuote;
+import com.toto.backend.services.pricing.LinePrice;
+import com.toto.backend.services.pricing.OrderPricing;
+import com.toto.backend.services.pricing.QuoteLine;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for pricing orders.
+ * Evaluates every line's subtype cost and type discount, the supplier bulk discounts and the order charges in one pass;
+ * line prices are cached per furniture version, so repricing only recomputes items that changed since.
+ */
+@Service
+public class OrderPricingService implements IOrderPricingService {
+
+    private final IChairService chairService;
+    private final IBedService bedService;
+    private final ISofaService sofaService;
+    private final ITablesService tablesService;
+    private final FurnitureRepository furnitureRepository;
+    private final EntityManager entityManager;
+
+    // Latest committed line price per furniture ID; an entry is only used while its version matches the item's
+    private final Map<Long, LinePrice> linePrices = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OrderPricingService(IChairService chairService, IBedService bedService, ISofaService sofaService,
+                               ITablesService tablesService, FurnitureRepository furnitureRepository,
+                               EntityManager entityManager) {
+        this.chairService = chairService;
+        this.bedService = bedService;
+        this.sofaService = sofaService;
+        this.tablesService = tablesService;
+        this.furnitureRepository = furnitureRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Price an order from its items, their suppliers and its delivery and installation charges.
+     */
+    public OrderPricing price(Order order) {
+        return price(order.getItems(), order.getDeliveryCharges(), order.getInstallationCharges());
+    }
+
+    /**
+     * Price a list of items as one order.
+     * Business logic: Each line is the item's cost with its options, less its furniture type's discount. Lines from one
+     * supplier that together reach the supplier's minimum order amount earn its bulk discount. Charges are added last.
+     */
+    public OrderPricing price(List<? extends Furniture> items, Double deliveryCharges, Double installationCharges) {
+        List<LinePrice> lines = new ArrayList<>(items.size());
+        Map<Long, Supplier> suppliers = new HashMap<>();
+        Map<Long, Double> supplierSubtotals = new HashMap<>();
+        double linesTotal = 0;
+        for (Furniture item : items) {
+            LinePrice line = priceLine(item);
+            lines.add(line);
+            linesTotal += line.netPrice();
+            if (line.supplierId() != null) {
+                suppliers.putIfAbsent(line.supplierId(), item.getSupplier());
+                supplierSubtotals.merge(line.supplierId(), line.netPrice(), Double::sum);
+            }
+        }
+
+        return new OrderPricing(lines, linesTotal, bulkDiscount(supplierSubtotals, suppliers),
+                deliveryCharges != null ? deliveryCharges : 0,
+                installationCharges != null ? installationCharges : 0);
+    }
+
+    /**
+     * Quote a cart of furniture IDs and quantities.
+     * Business logic: Current item versions are read in one query and cached line prices reused; only items changed
+     * since they were last priced are loaded, with their suppliers and price modifiers, in at most two more queries.
+     * Suppliers come from the second-level cache. Lines are priced as in {@link #price(List, Double, Double)}.
+     */
+    @Transactional(readOnly = true)
+    public CartQuote quote(List<CartItem> items) {
+        Set<Long> requestedIds = new HashSet<>();
+        for (CartItem item : items) {
+            if (item.quantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for furniture " + item.furnitureId());
+            }
+            requestedIds.add(item.furnitureId());
+        }
+
+        Map<Long, LinePrice> lineByFurnitureId = new HashMap<>();
+        List<Long> staleIds = new ArrayList<>();
+        if (!requestedIds.isEmpty()) {
+            for (FurnitureVersion current : furnitureRepository.findVersionsByIdIn(requestedIds)) {
+                LinePrice cached = linePrices.get(current.id());
+                if (cached != null && Objects.equals(cached.furnitureVersion(), current.version())) {
+                    lineByFurnitureId.put(current.id(), cached);
+                } else {
+                    staleIds.add(current.id());
+                }
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            List<Furniture> stale = furnitureRepository.findWithSupplierByIdIn(staleIds);
+            List<Long> miscIds = stale.stream().filter(MiscFurniture.class::isInstance).map(Furniture::getId).toList();
+            if (!miscIds.isEmpty()) {
+                furnitureRepository.findMiscWithPriceModifiersByIdIn(miscIds);
+            }
+            for (Furniture furniture : stale) {
+                lineByFurnitureId.put(furniture.getId(), priceLine(furniture));
+            }
+        }
+
+        List<QuoteLine> lines = new ArrayList<>(items.size());
+        List<Long> unknownIds = new ArrayList<>();
+        Map<Long, Double> supplierSubtotals = new HashMap<>();
+        double linesTotal = 0;
+        for (CartItem item : items) {
+            LinePrice price = lineByFurnitureId.get(item.furnitureId());
+            if (price == null) {
+                unknownIds.add(item.furnitureId());
+                continue;
+            }
+            QuoteLine line = new QuoteLine(price, item.quantity());
+            lines.add(line);
+            linesTotal += line.lineTotal();
+            if (price.supplierId() != null) {
+                supplierSubtotals.merge(price.supplierId(), line.lineTotal(), Double::sum);
+            }
+        }
+
+        Map<Long, Supplier> suppliers = new HashMap<>();
+        if (!supplierSubtotals.isEmpty()) {
+            entityManager.unwrap(Session.class).byMultipleIds(Supplier.class)
+                    .with(CacheMode.NORMAL)
+                    .enableSessionCheck(true)
+                    .multiLoad(List.copyOf(supplierSubtotals.keySet()))
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .forEach(supplier -> suppliers.put(supplier.getId(), supplier));
+        }
+        return new CartQuote(lines, unknownIds, linesTotal, bulkDiscount(supplierSubtotals, suppliers));
+    }
+
+    /**
+     * Price a single item.
+     * Business logic: Reuses the cached price while the item's version is unchanged; new prices of saved items are
+     * cached once the current transaction commits, so a rolled-back edit never leaves its price behind. Items with
+     * unflushed changes, and items not managed by the current transaction, are always priced from their fields, since
+     * their version does not identify their state.
+     */
+    public LinePrice priceLine(Furniture furniture) {
+        Furniture item = (Furniture) Hibernate.unproxy(furniture);
+        boolean cacheable = item.getId() != null && item.getVersion() != null && isUnmodified(item);
+        LinePrice cached = cacheable ? linePrices.get(item.getId()) : null;
+        if (cached != null && Objects.equals(cached.furnitureVersion(), item.getVersion())) {
+            return cached;
+        }
+
+        Supplier supplier = item.getSupplier();
+        LinePrice line = new LinePrice(item.getId(), item.getVersion(), supplier != null ? supplier.getId() : null,
+                item.getPrice(), item.calculateCost(), discountRate(item));
+        if (cacheable) {
+            AfterCommit.run(() -> linePrices.merge(line.furnitureId(), line,
+                    (current, priced) -> priced.furnitureVersion() >= current.furnitureVersion() ? priced : current));
+        }
+        return line;
+    }
+
+    private boolean isUnmodified(Furniture item) {
+        if (!entityManager.contains(item)) {
+            return false;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityEntry entry = session.getPersistenceContextInternal().getEntry(item);
+        if (entry == null) {
+            return false;
+        }
+        // Read-only entities, e.g. loaded by a read-only quote, are never flushed, so their version stays accurate
+        if (entry.getStatus() == Status.READ_ONLY) {
+            return true;
+        }
+        if (entry.getStatus() != Status.MANAGED || entry.getLoadedState() == null) {
+            return false;
+        }
+        EntityPersister persister = entry.getPersister();
+        Object[] values = persister.getValues(item);
+        for (Object value : values) {
+            // Collection changes are tracked by the collection wrappers, not by the property comparison below
+            boolean changedCollection = value instanceof PersistentCollection<?> collection
+                    ? collection.isDirty()
+                    : value instanceof Collection<?> || value instanceof Map<?, ?>;
+            if (changedCollection) {
+                return false;
+            }
+        }
+        return persister.findDirty(values, entry.getLoadedState(), item, session) == null;
+    }
+
+    // Lines from one supplier that together reach its minimum order amount earn its bulk discount
+    private double bulkDiscount(Map<Long, Double> supplierSubtotals, Map<Long, Supplier> suppliers) {
+        double bulkDiscount = 0;
+        for (Map.Entry<Long, Double> subtotal : supplierSubtotals.entrySet()) {
+            Supplier supplier = suppliers.get(subtotal.getKey());
+            if (supplier != null && subtotal.getValue() >= supplier.getMinimumOrderAmount()) {
+                bulkDiscount += subtotal.getValue() - supplier.applyBulkDiscount(subtotal.getValue());
+            }
+        }
+        return bulkDiscount;
+    }
+
+    private double discountRate(Furniture item) {
+        return switch (item) {
+            case Chair chair -> chairService.calculateDiscount(chair);
+            case Bed bed -> bedService.calculateDiscount(bed);
+            case Sofa sofa -> sofaService.calculateDiscount(sofa);
+            case Tables table -> tablesService.calculateDiscount(table);
+            default -> 0;
+        };
+    }
+}
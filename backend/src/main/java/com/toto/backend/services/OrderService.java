@@ -1,20 +1,78 @@
 package com.toto.backend.services;
 
-import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.BatchJobWatermark;
+import com.toto.backend.entities.Customer;
 import com.toto.backend.entities.Order;
+import com.toto.backend.entities.OrderInstallment;
+import com.toto.backend.entities.Payment;
+import com.toto.backend.entities.enums.InstallmentStatus;
 import com.toto.backend.entities.enums.OrderStatus;
 import com.toto.backend.entities.enums.PaymentMethod;
 import com.toto.backend.entities.enums.PaymentPlan;
 import com.toto.backend.entities.enums.PaymentStatus;
+import com.toto.backend.repositories.BatchJobWatermarkRepository;
+import com.toto.backend.repositories.CustomerRepository;
+import com.toto.backend.repositories.OrderInstallmentRepository;
 import com.toto.backend.repositories.OrderRepository;
+import com.toto.backend.repositories.PaymentRepository;
+import com.toto.backend.repositories.projections.PaymentLedgerEntry;
+import com.toto.backend.repositories.projections.PendingInstallmentCount;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import com.toto.backend.repositories.projections.StoredAdvancePayment;
+import com.toto.backend.services.batch.AscendingIdChunks;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IOrderPricingService;
 import com.toto.backend.services.interfaces.IOrderService;
+import com.toto.backend.services.interfaces.IStockService;
+import com.toto.backend.services.payments.PaymentPosting;
+import com.toto.backend.services.payments.PaymentPostingResult;
+import com.toto.backend.services.payments.RejectedPayment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Service for managing Order entities.
@@ -24,11 +82,74 @@ import java.util.Optional;
 @Transactional
 public class OrderService implements IOrderService {
 
+    // Matches hibernate.jdbc.batch_size so each chunk is flushed as whole JDBC batches
+    private static final int BATCH_SIZE = 50;
+
+    // Rows locked and changed per bulk statement, keeping the IN list far below the bind parameter limit
+    private static final int STATUS_UPDATE_BATCH_SIZE = 1_000;
+
+    // Statuses an order may be moved from, per target status
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_SOURCE_STATUSES = Map.of(
+            OrderStatus.PENDING, Set.of(),
+            OrderStatus.CONFIRMED, Set.of(OrderStatus.PENDING),
+            OrderStatus.PROCESSING, Set.of(OrderStatus.CONFIRMED),
+            OrderStatus.SHIPPED, Set.of(OrderStatus.CONFIRMED, OrderStatus.PROCESSING),
+            OrderStatus.DELIVERED, Set.of(OrderStatus.SHIPPED),
+            OrderStatus.CANCELLED, Set.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING));
+
+    // Orders whose price is not settled yet and follow catalog price changes
+    private static final Set<OrderStatus> OPEN_STATUSES =
+            EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING);
+
+    // Orders repriced per transaction; matches default_batch_fetch_size for their items
+    private static final int REPRICE_CHUNK_SIZE = 100;
+
+    // Attempts of a read-modify-write on orders before a concurrent update is reported to the caller
+    private static final int OPTIMISTIC_LOCK_ATTEMPTS = 5;
+    private static final long OPTIMISTIC_LOCK_BACKOFF_MILLIS = 20;
+
+    // Order IDs and payment references per query while validating a payment batch or compacting the ledger
+    private static final int PAYMENT_LOOKUP_BATCH_SIZE = 1_000;
+
+    // Matches the payments.reference column
+    private static final int PAYMENT_REFERENCE_LENGTH = 100;
+
+    private static final String PAYMENT_COMPACTION_JOB = "payment-compaction";
+
+    // Payments recorded by transactions still open when the previous compaction started are picked up again
+    private static final Duration PAYMENT_COMPACTION_OVERLAP = Duration.ofMinutes(10);
+
     private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final OrderInstallmentRepository orderInstallmentRepository;
+    private final PaymentRepository paymentRepository;
+    private final BatchJobWatermarkRepository batchJobWatermarkRepository;
+    private final IOrderPricingService orderPricingService;
+    private final IStockService stockService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate writeTransaction;
 
     @Autowired
-    public OrderService(OrderRepository orderRepository) {
+    public OrderService(OrderRepository orderRepository, CustomerRepository customerRepository,
+                        OrderInstallmentRepository orderInstallmentRepository, PaymentRepository paymentRepository,
+                        BatchJobWatermarkRepository batchJobWatermarkRepository,
+                        IOrderPricingService orderPricingService, IStockService stockService,
+                        EntityManager entityManager, PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.orderInstallmentRepository = orderInstallmentRepository;
+        this.paymentRepository = paymentRepository;
+        this.batchJobWatermarkRepository = batchJobWatermarkRepository;
+        this.orderPricingService = orderPricingService;
+        this.stockService = stockService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -47,39 +168,83 @@ public class OrderService implements IOrderService {
 
     /**
      * Save an order.
+     * Business logic: Refreshes the order statistics of the order's customer, and of its previous customer if it moved.
+     * A new order's advance payment is posted as its first payment, and an edit of an order's advance payment is posted
+     * as a correction for the difference, so the ledger keeps adding up to it. An open order's items are reserved from
+     * stock.
      */
     public Order save(Order order) {
-        // Set order date for new orders
-        if (order.getId() == null && order.getOrderDate() == null) {
-            order.setOrderDate(LocalDateTime.now());
-        }
-
-        // Set default status for new orders if not specified
-        if (order.getStatus() == null) {
-            order.setStatus(OrderStatus.PENDING);
-        }
-
-        // Set default payment plan if not specified
-        if (order.getPaymentPlan() == null) {
-            order.setPaymentPlan(PaymentPlan.FULL_PAYMENT);
+        applyDefaults(order);
+        boolean isNew = order.getId() == null;
+        Set<Long> customerIds = new HashSet<>();
+        Map<Long, Double> storedAdvances = Map.of();
+        if (!isNew) {
+            orderRepository.findCustomerIdById(order.getId()).ifPresent(customerIds::add);
+            storedAdvances = findStoredAdvancePayments(List.of(order.getId()));
         }
+        Order saved = orderRepository.save(order);
+        postAdvancePayment(saved, storedAdvances);
+        customerIds.add(saved.getCustomer().getId());
+        refreshCustomerStats(customerIds);
+        reloadIfManaged(saved.getCustomer());
+        syncStock(saved, isNew);
+        return saved;
+    }
 
-        // Recalculate total amount
-        if (order.getItems() != null && !order.getItems().isEmpty()) {
-            double total = order.getItems().stream()
-                    .mapToDouble(Furniture::getPrice)
-                    .sum();
-            order.setTotalAmount(total);
+    /**
+     * Save many orders in JDBC batches.
+     * Business logic: Flushes and detaches every batch, with its posted payments, so historic order migrations run in
+     * constant memory; entities the caller already manages stay managed, and its managed customers are reloaded with
+     * their refreshed statistics.
+     * The customers of all batches are locked and refreshed once, in ID order, after the last batch, as save() locks
+     * them, so an import cannot deadlock with concurrent order writes. Stock is then reserved for all batches in one
+     * sync, which locks the items in one global ID order. The returned orders are detached.
+     */
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> saved = new ArrayList<>(orders.size());
+        Set<Long> customerIds = new TreeSet<>();
+        Set<Customer> customers = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Order> stockSynced = new ArrayList<>();
+        for (int from = 0; from < orders.size(); from += BATCH_SIZE) {
+            List<Order> chunk = orders.subList(from, Math.min(from + BATCH_SIZE, orders.size()));
+            chunk.forEach(this::applyDefaults);
+            List<Boolean> isNew = chunk.stream().map(order -> order.getId() == null).toList();
+            Map<Long, Double> storedAdvances = findStoredAdvancePayments(
+                    chunk.stream().map(Order::getId).filter(Objects::nonNull).toList());
+            List<Order> savedChunk = orderRepository.saveAll(chunk);
+            List<Payment> posted = new ArrayList<>();
+            savedChunk.forEach(order -> postAdvancePayment(order, storedAdvances).ifPresent(posted::add));
+            entityManager.flush();
+            savedChunk.forEach(order -> {
+                customerIds.add(order.getCustomer().getId());
+                customers.add(order.getCustomer());
+            });
+            for (int i = 0; i < savedChunk.size(); i++) {
+                if (needsStockSync(savedChunk.get(i), isNew.get(i))) {
+                    stockSynced.add(savedChunk.get(i));
+                }
+            }
+            saved.addAll(savedChunk);
+            posted.forEach(entityManager::detach);
+            savedChunk.forEach(entityManager::detach);
         }
-
-        return orderRepository.save(order);
+        AscendingIdChunks.forEach(customerIds, STATUS_UPDATE_BATCH_SIZE, this::refreshCustomerStats);
+        customers.forEach(this::reloadIfManaged);
+        stockService.syncReservations(stockSynced);
+        return saved;
     }
 
     /**
      * Delete an order by ID.
+     * Business logic: Refreshes the order statistics of the order's customer and returns its reserved stock.
      */
     public void deleteById(Long id) {
+        Optional<Long> customerId = orderRepository.findCustomerIdById(id);
+        if (customerId.isPresent()) {
+            stockService.releaseReservations(List.of(id));
+        }
         orderRepository.deleteById(id);
+        customerId.ifPresent(value -> refreshCustomerStats(List.of(value)));
     }
 
     /**
@@ -236,11 +401,134 @@ public class OrderService implements IOrderService {
         return orderRepository.findByDeliveryCityIgnoreCaseAndPaymentMethod(city, paymentMethod);
     }
 
+    /**
+     * Find a page of orders by customer ID.
+     */
+    public Page<Order> findByCustomerId(Long customerId, Pageable pageable) {
+        return orderRepository.findByCustomer_Id(customerId, pageable);
+    }
+
+    /**
+     * Find a page of orders by order status.
+     */
+    public Page<Order> findByStatus(OrderStatus status, Pageable pageable) {
+        return orderRepository.findByStatus(status, pageable);
+    }
+
+    /**
+     * Find a page of orders by payment status.
+     */
+    public Page<Order> findByPaymentStatus(PaymentStatus paymentStatus, Pageable pageable) {
+        return orderRepository.findByPaymentStatus(paymentStatus, pageable);
+    }
+
+    /**
+     * Find a slice of orders by order date between two dates.
+     */
+    public Slice<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        return orderRepository.findByOrderDateBetween(startDate, endDate, pageable);
+    }
+
+    /**
+     * Find a page of orders by delivery city.
+     */
+    public Page<Order> findByDeliveryCity(String city, Pageable pageable) {
+        return orderRepository.findByDeliveryCityIgnoreCase(city, pageable);
+    }
+
+    /**
+     * Find a page of orders with pending payments (payment status PENDING or PARTIAL).
+     */
+    public Page<Order> findOrdersWithPendingPayments(Pageable pageable) {
+        return orderRepository.findOrdersWithPendingPayments(pageable);
+    }
+
+    /**
+     * Scroll through all orders ordered by (orderDate, id).
+     * Keyset scrolling seeks past the last row instead of using OFFSET, so every window costs the same.
+     */
+    public Window<Order> scrollOrders(ScrollPosition position, int pageSize) {
+        return orderRepository.findAllByOrderByOrderDateAscIdAsc(keysetOrStart(position), Limit.of(pageSize));
+    }
+
+    /**
+     * Scroll through orders by order status ordered by (orderDate, id).
+     */
+    public Window<Order> scrollByStatus(OrderStatus status, ScrollPosition position, int pageSize) {
+        return orderRepository.findByStatusOrderByOrderDateAscIdAsc(
+                status, keysetOrStart(position), Limit.of(pageSize));
+    }
+
+    /**
+     * Scroll through orders by order date between two dates ordered by (orderDate, id).
+     */
+    public Window<Order> scrollByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate,
+                                                  ScrollPosition position, int pageSize) {
+        return orderRepository.findByOrderDateBetweenOrderByOrderDateAscIdAsc(
+                startDate, endDate, keysetOrStart(position), Limit.of(pageSize));
+    }
+
+    /**
+     * Find a page of order summaries (orders with their customer).
+     */
+    public Page<Order> findOrderSummaries(Pageable pageable) {
+        return orderRepository.findSummaries(pageable);
+    }
+
+    /**
+     * Find a page of order summaries by order status.
+     */
+    public Page<Order> findOrderSummariesByStatus(OrderStatus status, Pageable pageable) {
+        return orderRepository.findSummaryByStatus(status, pageable);
+    }
+
+    /**
+     * Find order summaries by customer ID.
+     */
+    public List<Order> findOrderSummariesByCustomerId(Long customerId) {
+        return orderRepository.findSummaryByCustomer_Id(customerId);
+    }
+
+    /**
+     * Find an order with its customer, items and item suppliers.
+     */
+    public Optional<Order> findByIdWithLines(Long id) {
+        return orderRepository.findWithLinesById(id);
+    }
+
+    /**
+     * Find a page of orders by order status with their customer, items and item suppliers.
+     * Pages the IDs first and then fetches the lines for that page only, so the cost is two queries plus a count.
+     */
+    public Page<Order> findWithLinesByStatus(OrderStatus status, Pageable pageable) {
+        Page<Long> ids = orderRepository.findIdsByStatus(status, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        List<Long> idOrder = ids.getContent();
+        for (int i = 0; i < idOrder.size(); i++) {
+            positions.put(idOrder.get(i), i);
+        }
+        List<Order> orders = orderRepository.findWithLinesByIdIn(idOrder).stream()
+                .sorted(Comparator.comparingInt(order -> positions.get(order.getId())))
+                .toList();
+        return new PageImpl<>(orders, pageable, ids.getTotalElements());
+    }
+
     /**
      * Update order status.
-     * Business logic: Updates the order status and performs any necessary side effects.
+     * Business logic: Updates the order status and performs any necessary side effects, including releasing the order's
+     * reserved stock when it is cancelled. Outside a caller's transaction, a concurrent change to the order is retried on
+     * fresh data.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
+        return withOptimisticRetry(() -> changeOrderStatus(orderId, newStatus));
+    }
+
+    private Order changeOrderStatus(Long orderId, OrderStatus newStatus) {
         Optional<Order> orderOpt = orderRepository.findById(orderId);
         if (orderOpt.isPresent()) {
             Order order = orderOpt.get();
@@ -255,57 +543,171 @@ public class OrderService implements IOrderService {
                 // No additional action needed for cancellation
             }
 
-            return orderRepository.save(order);
+            Order saved = orderRepository.save(order);
+            if (newStatus == OrderStatus.CANCELLED || oldStatus == OrderStatus.CANCELLED) {
+                // Cancelled orders do not count towards the customer's lifetime value
+                refreshCustomerStats(List.of(saved.getCustomer().getId()));
+                reloadIfManaged(saved.getCustomer());
+            }
+            if (newStatus != oldStatus) {
+                stockService.syncReservations(saved);
+            }
+            return saved;
         }
         return null;
     }
 
+    /**
+     * Move orders to a new status in bulk.
+     * Business logic: The orders are locked, checked against the statuses the target may be reached from and changed
+     * with set-based UPDATEs; delivered orders get their delivery date. Every requested ID gets an outcome.
+     */
+    public StatusTransitionResult<OrderStatus> transitionOrders(Collection<Long> orderIds, OrderStatus targetStatus) {
+        Set<Long> requestedIds = new LinkedHashSet<>(orderIds);
+        List<StatusSnapshot<OrderStatus>> current = AscendingIdChunks.collect(
+                requestedIds, STATUS_UPDATE_BATCH_SIZE, orderRepository::lockStatusesByIdIn);
+        return applyOrderTransition(requestedIds, current, targetStatus);
+    }
+
+    /**
+     * Move every order in a status and delivery city to a new status, e.g. ship every CONFIRMED order in Lahore.
+     */
+    public StatusTransitionResult<OrderStatus> transitionOrders(OrderStatus currentStatus, String deliveryCity,
+                                                                OrderStatus targetStatus) {
+        List<StatusSnapshot<OrderStatus>> current =
+                orderRepository.lockStatusesByStatusAndDeliveryCity(currentStatus, deliveryCity);
+        return applyOrderTransition(current.stream().map(StatusSnapshot::id).toList(), current, targetStatus);
+    }
+
     /**
      * Update payment status.
-     * Business logic: Updates the payment status and calculates remaining payment if needed.
+     * Business logic: Updates the payment status and calculates remaining payment if needed. A payment is added to the
+     * advance payment by one atomic UPDATE that also derives the remaining amount and the status (COMPLETED or PARTIAL)
+     * in SQL, so concurrent payments on an order are never lost; the payment is also appended to the order's payment
+     * ledger. The UPDATE locks the order row until this transaction commits, so a concurrent payment or edit of the same
+     * order waits for it; keep the surrounding transaction short.
      */
     public Order updatePaymentStatus(Long orderId, PaymentStatus newStatus, Double paymentAmount) {
-        Optional<Order> orderOpt = orderRepository.findById(orderId);
-        if (orderOpt.isPresent()) {
-            Order order = orderOpt.get();
-            order.setPaymentStatus(newStatus);
-
-            // Handle payment amount if provided
-            if (paymentAmount != null && paymentAmount > 0) {
-                if (order.getAdvancePayment() == null) {
-                    order.setAdvancePayment(paymentAmount);
-                } else {
-                    order.setAdvancePayment(order.getAdvancePayment() + paymentAmount);
-                }
+        boolean isPayment = paymentAmount != null && paymentAmount > 0;
+        int updated = isPayment
+                ? recordPayment(orderId, newStatus, paymentAmount)
+                : orderRepository.updatePaymentStatus(orderId, newStatus);
+        if (updated == 0) {
+            return null;
+        }
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        entityManager.refresh(order);
+        return order;
+    }
 
-                // Calculate remaining payment
-                if (order.getTotalAmount() != null) {
-                    double remaining = order.getTotalAmount() - order.getAdvancePayment();
-                    order.setRemainingPayment(Math.max(0, remaining));
-
-                    // Update payment status based on remaining amount
-                    if (remaining <= 0) {
-                        order.setPaymentStatus(PaymentStatus.COMPLETED);
-                    } else {
-                        order.setPaymentStatus(PaymentStatus.PARTIAL);
-                    }
-                }
+    /**
+     * Post a batch of payments to the ledger, e.g. an end-of-day Easy Paisa or Jazz Cash settlement file.
+     * Business logic: Each payment is appended to the ledger without touching its order, so postings never contend
+     * with each other or with order updates; order balances follow at the next compaction. Payments for unknown orders,
+     * with a non-positive amount or with a reference already posted for the same payment method are rejected.
+     */
+    public PaymentPostingResult postPayments(List<PaymentPosting> payments) {
+        List<RejectedPayment> rejected = new ArrayList<>();
+        List<PaymentPosting> valid = new ArrayList<>(payments.size());
+        for (PaymentPosting payment : payments) {
+            String reason = validatePayment(payment);
+            if (reason != null) {
+                rejected.add(new RejectedPayment(payment, reason));
+            } else {
+                valid.add(payment);
             }
+        }
 
-            return orderRepository.save(order);
+        Set<Long> knownOrderIds = findKnownOrderIds(valid);
+        Map<PaymentMethod, Set<String>> postedReferences = findPostedReferences(valid);
+        LocalDateTime recordedAt = LocalDateTime.now();
+        long posted = 0;
+        for (PaymentPosting payment : valid) {
+            if (!knownOrderIds.contains(payment.orderId())) {
+                rejected.add(new RejectedPayment(payment, "Order not found"));
+                continue;
+            }
+            // Also catches a reference repeated within the batch
+            if (payment.reference() != null && !postedReferences
+                    .computeIfAbsent(payment.paymentMethod(), method -> new HashSet<>()).add(payment.reference())) {
+                rejected.add(new RejectedPayment(payment, "Reference already posted"));
+                continue;
+            }
+            entityManager.persist(new Payment(null, entityManager.getReference(Order.class, payment.orderId()),
+                    payment.amount(), payment.paymentMethod(), payment.reference(),
+                    payment.receivedAt() != null ? payment.receivedAt() : recordedAt, recordedAt));
+            if (++posted % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
-        return null;
+        entityManager.flush();
+        entityManager.clear();
+        return new PaymentPostingResult(posted, rejected);
+    }
+
+    /**
+     * Find the amount paid on an order so far.
+     * Business logic: Sums the order's ledger, so payments not yet compacted into the order are included.
+     */
+    public double findPaidAmount(Long orderId) {
+        return paymentRepository.sumAmountByOrderId(orderId);
+    }
+
+    /**
+     * Find the payments of an order in the order they were received, each with the running paid amount.
+     */
+    public List<PaymentLedgerEntry> findPaymentLedger(Long orderId) {
+        return paymentRepository.findLedgerByOrderId(orderId);
+    }
+
+    /**
+     * Compact the payment ledger into the advance payment, remaining payment and payment status of the orders with
+     * payments recorded since the previous run.
+     * Business logic: Runs every five minutes; the first run, with no previous run recorded, compacts every order.
+     */
+    @Scheduled(cron = "${orders.payment-compaction.cron:0 */5 * * * *}")
+    public int compactPaymentBalances() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime recordedSince = batchJobWatermarkRepository.findById(PAYMENT_COMPACTION_JOB)
+                .map(watermark -> watermark.getLastStartedAt().minus(PAYMENT_COMPACTION_OVERLAP))
+                .orElse(null);
+        int compacted = compactPaymentBalances(recordedSince);
+        batchJobWatermarkRepository.save(new BatchJobWatermark(PAYMENT_COMPACTION_JOB, startedAt));
+        return compacted;
+    }
+
+    /**
+     * Compact the payment ledger into the orders' payment fields in one bulk update.
+     * Business logic: When recordedSince is given only orders with a payment recorded on or after it are compacted,
+     * otherwise all orders with payments are; orders already in step with their ledger are left untouched. The orders
+     * are locked in ID order first, so a payment recorded concurrently is never overwritten by a stale ledger sum.
+     */
+    public int compactPaymentBalances(LocalDateTime recordedSince) {
+        List<Long> orderIds = paymentRepository.lockOrdersWithPaymentsRecordedSince(recordedSince);
+        int compacted = 0;
+        for (int from = 0; from < orderIds.size(); from += PAYMENT_LOOKUP_BATCH_SIZE) {
+            compacted += paymentRepository.compactBalances(
+                    orderIds.subList(from, Math.min(from + PAYMENT_LOOKUP_BATCH_SIZE, orderIds.size())));
+        }
+        return compacted;
     }
 
     /**
      * Calculate installment plan.
-     * Business logic: Calculates monthly installment amount based on total amount and installment months.
+     * Business logic: Calculates monthly installment amount based on total amount and installment months, and replaces
+     * the order's installment schedule with one pending installment per month, the first due a month from today.
+     * Outside a caller's transaction, a concurrent change to the order is retried on fresh data.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Order calculateInstallmentPlan(Long orderId, Integer installmentMonths) {
         if (installmentMonths == null || installmentMonths <= 0) {
             return null;
         }
+        return withOptimisticRetry(() -> createInstallmentPlan(orderId, installmentMonths));
+    }
 
+    private Order createInstallmentPlan(Long orderId, int installmentMonths) {
         Optional<Order> orderOpt = orderRepository.findById(orderId);
         if (orderOpt.isPresent()) {
             Order order = orderOpt.get();
@@ -314,6 +716,8 @@ public class OrderService implements IOrderService {
             order.setPaymentPlan(PaymentPlan.INSTALLMENTS);
             order.setInstallmentMonths(installmentMonths);
 
+            orderInstallmentRepository.deleteByOrderId(orderId);
+
             // Calculate monthly installment amount
             if (order.getTotalAmount() != null) {
                 double advancePayment = order.getAdvancePayment() != null ? order.getAdvancePayment() : 0;
@@ -323,6 +727,7 @@ public class OrderService implements IOrderService {
                     double monthlyAmount = remainingAmount / installmentMonths;
                     order.setMonthlyInstallmentAmount(monthlyAmount);
                     order.setRemainingPayment(remainingAmount);
+                    orderInstallmentRepository.generateSchedule(orderId, LocalDate.now(), installmentMonths, monthlyAmount);
                 }
             }
 
@@ -330,4 +735,330 @@ public class OrderService implements IOrderService {
         }
         return null;
     }
+
+    /**
+     * Find the installments of an order in plan order.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderInstallment> findInstallmentsByOrderId(Long orderId) {
+        return orderInstallmentRepository.findByOrder_IdOrderByInstallmentNumberAsc(orderId);
+    }
+
+    /**
+     * Find a slice of unpaid installments across all orders falling due between two dates (inclusive), earliest first.
+     * Business logic: Answered from the due-date index in index order, e.g. for this week's collection calls; the
+     * slice's sort is ignored.
+     */
+    @Transactional(readOnly = true)
+    public Slice<OrderInstallment> findInstallmentsDueBetween(LocalDate from, LocalDate to, Pageable pageable) {
+        return orderInstallmentRepository.findByStatusAndDueDateBetweenOrderByDueDateAscIdAsc(
+                InstallmentStatus.PENDING, from, to, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * Find a slice of unpaid installments across all orders that fell due before a date, earliest first.
+     */
+    @Transactional(readOnly = true)
+    public Slice<OrderInstallment> findOverdueInstallments(LocalDate asOf, Pageable pageable) {
+        return orderInstallmentRepository.findByStatusAndDueDateBeforeOrderByDueDateAscIdAsc(
+                InstallmentStatus.PENDING, asOf, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * Mark an installment as paid.
+     * Business logic: The installment amount is recorded as a payment on its order, as updatePaymentStatus does, so the
+     * order's remaining payment and payment status follow and the payment is in the ledger. An installment that is
+     * already paid is returned unchanged and nothing is posted.
+     */
+    public OrderInstallment markInstallmentPaid(Long installmentId) {
+        Optional<OrderInstallment> installmentOpt = orderInstallmentRepository.findById(installmentId);
+        if (installmentOpt.isPresent()) {
+            OrderInstallment installment = installmentOpt.get();
+            if (orderInstallmentRepository.markPaid(installmentId, LocalDateTime.now()) > 0) {
+                recordPayment(installment.getOrder().getId(), PaymentStatus.PARTIAL, installment.getAmount());
+                entityManager.refresh(installment);
+                // The payment was recorded by a bulk update; an order already loaded here would show the old balance
+                if (Hibernate.isInitialized(installment.getOrder())) {
+                    entityManager.refresh(installment.getOrder());
+                }
+            }
+            return installment;
+        }
+        return null;
+    }
+
+    /**
+     * Reprice every open (pending, confirmed or processing) order.
+     * Business logic: Open order IDs are walked in chunks; each chunk's orders are loaded with their items and suppliers
+     * in one query, priced, and written back in their own transaction together with their customers' lifetime values.
+     * Remaining payments follow the new total, spread over the pending installments. Returns the number of orders whose
+     * total changed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int repriceOpenOrders() {
+        return repriceOpenOrders(afterId ->
+                orderRepository.findIdsByStatusInAfter(OPEN_STATUSES, afterId, Limit.of(REPRICE_CHUNK_SIZE)));
+    }
+
+    /**
+     * Reprice the open orders containing any of the given furniture items, e.g. after their prices changed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int repriceOpenOrdersContaining(Collection<Long> furnitureIds) {
+        if (furnitureIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> ids = Set.copyOf(furnitureIds);
+        return repriceOpenOrders(afterId -> orderRepository.findIdsByStatusInContainingFurnitureAfter(
+                OPEN_STATUSES, ids, afterId, Limit.of(REPRICE_CHUNK_SIZE)));
+    }
+
+    private int repriceOpenOrders(Function<Long, List<Long>> nextChunk) {
+        int repriced = 0;
+        long afterId = 0;
+        List<Long> orderIds;
+        while (!(orderIds = nextChunk.apply(afterId)).isEmpty()) {
+            List<Long> chunk = orderIds;
+            repriced += inTransactionWithRetry(chunkTransaction, () -> repriceChunk(chunk));
+            afterId = orderIds.get(orderIds.size() - 1);
+        }
+        return repriced;
+    }
+
+    private StatusTransitionResult<OrderStatus> applyOrderTransition(Collection<Long> requestedIds,
+                                                                     List<StatusSnapshot<OrderStatus>> current,
+                                                                     OrderStatus targetStatus) {
+        Set<OrderStatus> allowed = ALLOWED_SOURCE_STATUSES.get(targetStatus);
+        StatusTransitionResult<OrderStatus> result =
+                StatusTransitionResult.of(targetStatus, requestedIds, current, allowed);
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> batch : result.transitionedIdBatches(STATUS_UPDATE_BATCH_SIZE)) {
+            if (targetStatus == OrderStatus.DELIVERED) {
+                orderRepository.markDelivered(batch, now, allowed);
+            } else {
+                orderRepository.updateStatus(batch, targetStatus, allowed);
+            }
+            if (targetStatus == OrderStatus.CANCELLED) {
+                refreshCustomerStats(orderRepository.findCustomerIdsByIdIn(batch));
+                stockService.releaseReservations(batch);
+            } else if (targetStatus == OrderStatus.SHIPPED || targetStatus == OrderStatus.DELIVERED) {
+                stockService.fulfilReservations(batch);
+            }
+        }
+        return result;
+    }
+
+    private void refreshCustomerStats(Collection<Long> customerIds) {
+        // Lock first: an UPDATE that waits for a concurrent order write to the same customer would re-check the row
+        // but aggregate from its original snapshot, missing the other order. Once the lock is held, the next
+        // statement sees every committed order.
+        customerRepository.lockByIdIn(customerIds);
+        customerRepository.refreshOrderStats(customerIds);
+        // Cached customers carry the order statistics
+        eventPublisher.publishEvent(EntityChangedEvent.of(Customer.class, customerIds));
+    }
+
+    private int recordPayment(Long orderId, PaymentStatus newStatus, Double paymentAmount) {
+        int updated = orderRepository.recordPayment(orderId, paymentAmount, newStatus);
+        if (updated > 0) {
+            paymentRepository.appendOrderPayment(orderId, paymentAmount);
+        }
+        return updated;
+    }
+
+    private void reloadIfManaged(Customer customer) {
+        // The statistics were recomputed by a bulk update, which bypasses the customer already in the persistence context
+        if (entityManager.contains(customer)) {
+            entityManager.refresh(customer);
+        }
+    }
+
+    private void syncStock(Order order, boolean isNew) {
+        if (needsStockSync(order, isNew)) {
+            stockService.syncReservations(order);
+        }
+    }
+
+    private boolean needsStockSync(Order order, boolean isNew) {
+        // A new order that is already past the open statuses, e.g. a migrated historic order, never held stock
+        return !isNew || OPEN_STATUSES.contains(order.getStatus());
+    }
+
+    private Map<Long, Double> findStoredAdvancePayments(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Double> advances = new HashMap<>();
+        for (StoredAdvancePayment stored : orderRepository.findAdvancePaymentsByIdIn(orderIds)) {
+            advances.put(stored.orderId(), stored.advancePayment() != null ? stored.advancePayment() : 0);
+        }
+        return advances;
+    }
+
+    private Optional<Payment> postAdvancePayment(Order order, Map<Long, Double> storedAdvances) {
+        // Compaction resets the advance payment to the ledger sum, so an edit that is not posted would be reverted.
+        // An order that was not stored yet is paid when it was placed; a later edit is a signed correction made now.
+        Double storedAdvance = storedAdvances.get(order.getId());
+        double advancePayment = order.getAdvancePayment() != null ? order.getAdvancePayment() : 0;
+        double amount = advancePayment - (storedAdvance != null ? storedAdvance : 0);
+        if (amount == 0) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Payment payment = new Payment(null, order, amount, order.getPaymentMethod(), null,
+                storedAdvance != null ? now : order.getOrderDate(), now);
+        entityManager.persist(payment);
+        return Optional.of(payment);
+    }
+
+    private static String validatePayment(PaymentPosting payment) {
+        if (payment.orderId() == null) {
+            return "Order ID is required";
+        }
+        if (!(payment.amount() > 0)) {
+            return "Amount must be positive";
+        }
+        if (payment.paymentMethod() == null) {
+            return "Payment method is required";
+        }
+        if (payment.reference() != null && payment.reference().length() > PAYMENT_REFERENCE_LENGTH) {
+            return "Reference is longer than " + PAYMENT_REFERENCE_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private Set<Long> findKnownOrderIds(List<PaymentPosting> payments) {
+        List<Long> orderIds = payments.stream().map(PaymentPosting::orderId).distinct().toList();
+        Set<Long> known = new HashSet<>();
+        for (int from = 0; from < orderIds.size(); from += PAYMENT_LOOKUP_BATCH_SIZE) {
+            known.addAll(orderRepository.findIdsByIdIn(
+                    orderIds.subList(from, Math.min(from + PAYMENT_LOOKUP_BATCH_SIZE, orderIds.size()))));
+        }
+        return known;
+    }
+
+    private Map<PaymentMethod, Set<String>> findPostedReferences(List<PaymentPosting> payments) {
+        Map<PaymentMethod, Set<String>> references = new EnumMap<>(PaymentMethod.class);
+        for (PaymentPosting payment : payments) {
+            if (payment.reference() != null) {
+                references.computeIfAbsent(payment.paymentMethod(), method -> new LinkedHashSet<>()).add(payment.reference());
+            }
+        }
+        Map<PaymentMethod, Set<String>> posted = new EnumMap<>(PaymentMethod.class);
+        references.forEach((method, methodReferences) -> {
+            List<String> candidates = List.copyOf(methodReferences);
+            Set<String> methodPosted = new HashSet<>();
+            for (int from = 0; from < candidates.size(); from += PAYMENT_LOOKUP_BATCH_SIZE) {
+                methodPosted.addAll(paymentRepository.findReferences(method,
+                        candidates.subList(from, Math.min(from + PAYMENT_LOOKUP_BATCH_SIZE, candidates.size()))));
+            }
+            posted.put(method, methodPosted);
+        });
+        return posted;
+    }
+
+    private void applyDefaults(Order order) {
+        // Set order date for new orders
+        if (order.getId() == null && order.getOrderDate() == null) {
+            order.setOrderDate(LocalDateTime.now());
+        }
+
+        // Set default status for new orders if not specified
+        if (order.getStatus() == null) {
+            order.setStatus(OrderStatus.PENDING);
+        }
+
+        // Set default payment plan if not specified
+        if (order.getPaymentPlan() == null) {
+            order.setPaymentPlan(PaymentPlan.FULL_PAYMENT);
+        }
+
+        // Recalculate total amount
+        if (order.getItems() != null && !order.getItems().isEmpty()) {
+            order.setTotalAmount(orderPricingService.price(order).total());
+        }
+    }
+
+    private int repriceChunk(List<Long> orderIds) {
+        int repriced = 0;
+        Set<Long> customerIds = new HashSet<>();
+        List<Long> installmentOrderIds = new ArrayList<>();
+        Map<Long, Long> pendingInstallments = new HashMap<>();
+        for (PendingInstallmentCount count : orderInstallmentRepository.countPendingByOrderIdIn(orderIds)) {
+            pendingInstallments.put(count.orderId(), count.pending());
+        }
+        for (Order order : orderRepository.findWithLinesByIdIn(orderIds)) {
+            // Skip orders that left the open statuses since their IDs were read
+            if (!OPEN_STATUSES.contains(order.getStatus()) || order.getItems().isEmpty()) {
+                continue;
+            }
+            double total = orderPricingService.price(order).total();
+            if (!Objects.equals(order.getTotalAmount(), total)) {
+                applyRepricedTotal(order, total, pendingInstallments.getOrDefault(order.getId(), 0L));
+                customerIds.add(order.getCustomer().getId());
+                if (order.getMonthlyInstallmentAmount() != null) {
+                    installmentOrderIds.add(order.getId());
+                }
+                repriced++;
+            }
+        }
+        if (!customerIds.isEmpty()) {
+            entityManager.flush();
+            refreshCustomerStats(customerIds);
+        }
+        if (!installmentOrderIds.isEmpty()) {
+            orderInstallmentRepository.refreshPendingAmounts(installmentOrderIds);
+        }
+        return repriced;
+    }
+
+    private void applyRepricedTotal(Order order, double total, long pendingInstallments) {
+        order.setTotalAmount(total);
+        if (order.getRemainingPayment() == null) {
+            return;
+        }
+        // Paid installments are already part of the advance payment, so the rest is spread over the pending ones only
+        double advancePayment = order.getAdvancePayment() != null ? order.getAdvancePayment() : 0;
+        double remaining = Math.max(0, total - advancePayment);
+        order.setRemainingPayment(remaining);
+        if (order.getMonthlyInstallmentAmount() != null && pendingInstallments > 0) {
+            order.setMonthlyInstallmentAmount(remaining / pendingInstallments);
+        }
+    }
+
+    // Runs read-modify-write work in its own transaction, retried on a version conflict; inside a caller's transaction
+    // the persistence context cannot be rolled back alone, so the conflict is left to the caller
+    private <T> T withOptimisticRetry(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        return inTransactionWithRetry(writeTransaction, work);
+    }
+
+    private <T> T inTransactionWithRetry(TransactionTemplate transaction, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt == OPTIMISTIC_LOCK_ATTEMPTS) {
+                    throw e;
+                }
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    // Random, growing pause so writers that collided do not collide again on the retry
+    private static void backOff(int attempt, RuntimeException conflict) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, OPTIMISTIC_LOCK_BACKOFF_MILLIS * attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private ScrollPosition keysetOrStart(ScrollPosition position) {
+        return position != null ? position : ScrollPosition.keyset();
+    }
 }
@@ -1,10 +1,17 @@
 package com.toto.backend.services;
 
 import com.toto.backend.entities.Sofa;
+import com.toto.backend.entities.Supplier;
 import com.toto.backend.repositories.SofaRepository;
+import com.toto.backend.repositories.projections.SofaRow;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
 import com.toto.backend.services.interfaces.ISofaService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,10 +26,15 @@ import java.util.Optional;
 public class SofaService implements ISofaService {
 
     private final SofaRepository sofaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Sofa> cache;
 
     @Autowired
-    public SofaService(SofaRepository sofaRepository) {
+    public SofaService(SofaRepository sofaRepository, IEntityCacheService entityCacheService,
+                       ApplicationEventPublisher eventPublisher) {
         this.sofaRepository = sofaRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("sofas", Sofa.class, sofaRepository::findById, Supplier.class);
     }
 
     /**
@@ -32,18 +44,29 @@ public class SofaService implements ISofaService {
         return sofaRepository.findAll();
     }
 
+    /**
+     * Find all sofas as lightweight, read-only list rows.
+     */
+    @Transactional(readOnly = true)
+    public List<SofaRow> findAllRows() {
+        return sofaRepository.findAllRows();
+    }
+
     /**
      * Find sofa by ID.
+     * Business logic: Outside a transaction, served from memory when cached; the returned sofa is a detached copy, so
+     * changes stay local until it is saved.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Sofa> findById(Long id) {
-        return sofaRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a sofa.
      */
     public Sofa save(Sofa sofa) {
-        return sofaRepository.save(sofa);
+        return changed(sofaRepository.save(sofa));
     }
 
     /**
@@ -51,6 +74,7 @@ public class SofaService implements ISofaService {
      */
     public void deleteById(Long id) {
         sofaRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Sofa.class, id));
     }
 
     /**
@@ -148,7 +172,8 @@ public class SofaService implements ISofaService {
         double baseDiscount = 0.05; // 5% base discount
 
         // Luxury sofas (leather with recliners) get smaller discounts
-        if (sofa.getUpholsteryType().toLowerCase().contains("leather") && sofa.isHasRecliners()) {
+        if (sofa.getUpholsteryType() != null && sofa.getUpholsteryType().toLowerCase().contains("leather")
+                && sofa.isHasRecliners()) {
             baseDiscount = 0.03; // 3% discount for luxury sofas
         }
 
@@ -214,4 +239,9 @@ public class SofaService implements ISofaService {
             return "Low - Standard delivery procedures apply";
         }
     }
+
+    private Sofa changed(Sofa saved) {
+        eventPublisher.publishEvent(EntityChangedEvent.of(Sofa.class, saved.getId()));
+        return saved;
+    }
 }
@@ -0,0 +1,211 @@
+package com.toto.backend.services;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Order;
+import com.toto.backend.entities.StockReservation;
+import com.toto.backend.entities.enums.OrderStatus;
+import com.toto.backend.repositories.FurnitureRepository;
+import com.toto.backend.repositories.StockReservationRepository;
+import com.toto.backend.services.batch.AscendingIdChunks;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IStockService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Service for furniture stock levels and order reservations.
+ * Stock is reserved with conditional decrements on the furniture rows rather than read-then-write, so concurrent
+ * checkouts can neither oversell an item nor block checkouts of other items.
+ */
+@Service
+@Transactional
+public class StockService implements IStockService {
+
+    // Orders that hold their units in stock; once shipped the units have left and the reservation is fulfilled
+    private static final Set<OrderStatus> RESERVING_STATUSES =
+            EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING);
+
+    // Orders and items looked up or locked per query, keeping the IN list far below the bind parameter limit
+    private static final int LOCK_BATCH_SIZE = 1_000;
+
+    private final FurnitureRepository furnitureRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public StockService(FurnitureRepository furnitureRepository, StockReservationRepository stockReservationRepository,
+                        EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.furnitureRepository = furnitureRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Find the unreserved stock of a furniture item.
+     */
+    @Transactional(readOnly = true)
+    public Integer findStockQuantity(Long furnitureId) {
+        return furnitureRepository.findStockQuantityById(furnitureId);
+    }
+
+    /**
+     * Add received units to a furniture item's stock.
+     */
+    public boolean restock(Long furnitureId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Restock quantity must be positive");
+        }
+        return stockChanged(furnitureId, furnitureRepository.addStock(furnitureId, quantity));
+    }
+
+    /**
+     * Set the unreserved stock of a furniture item.
+     */
+    public boolean setStockQuantity(Long furnitureId, Integer quantity) {
+        if (quantity != null && quantity < 0) {
+            throw new IllegalArgumentException("Stock quantity cannot be negative");
+        }
+        return stockChanged(furnitureId, furnitureRepository.updateStockQuantity(furnitureId, quantity));
+    }
+
+    /**
+     * Find the stock reservations held by an order.
+     */
+    @Transactional(readOnly = true)
+    public List<StockReservation> findReservationsByOrderId(Long orderId) {
+        return stockReservationRepository.findByOrder_Id(orderId);
+    }
+
+    /**
+     * Bring an order's stock reservations in line with its items and status.
+     * Business logic: Items are reserved in ascending ID order, so two checkouts sharing several items lock their rows
+     * in the same order and cannot deadlock. Call it last in the transaction: the reserved rows stay locked until commit.
+     */
+    public void syncReservations(Order order) {
+        OrderStatus status = order.getStatus();
+        if (status == OrderStatus.CANCELLED) {
+            releaseReservations(List.of(order.getId()));
+        } else if (status == OrderStatus.SHIPPED || status == OrderStatus.DELIVERED) {
+            fulfilReservations(List.of(order.getId()));
+        } else if (RESERVING_STATUSES.contains(status)) {
+            reconcile(order);
+        }
+    }
+
+    /**
+     * Bring the stock reservations of many orders in line with their items and statuses.
+     * Business logic: The items all the orders want or hold are locked first, in ascending ID chunks, before any order
+     * is synced. Syncing order by order would lock each order's items in ID order but not the whole set, and deadlock
+     * with a checkout sharing two of the items. Call it last in the transaction, as syncReservations(Order).
+     */
+    public void syncReservations(Collection<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Set<Long> furnitureIds = new TreeSet<>();
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            order.getItems().forEach(item -> furnitureIds.add(item.getId()));
+            orderIds.add(order.getId());
+        }
+        for (int from = 0; from < orderIds.size(); from += LOCK_BATCH_SIZE) {
+            furnitureIds.addAll(stockReservationRepository.findFurnitureIdsByOrderIdIn(
+                    orderIds.subList(from, Math.min(from + LOCK_BATCH_SIZE, orderIds.size()))));
+        }
+        AscendingIdChunks.forEach(furnitureIds, LOCK_BATCH_SIZE, furnitureRepository::lockByIdIn);
+        orders.forEach(this::syncReservations);
+    }
+
+    /**
+     * Return the units reserved by the given orders to stock and drop their reservations.
+     * Business logic: The reserved items are locked in ascending ID order before they are restocked, as checkouts lock
+     * them, so releases and checkouts sharing items cannot deadlock.
+     */
+    public void releaseReservations(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        stockReservationRepository.lockReservedFurnitureByOrderIdIn(orderIds);
+        stockReservationRepository.restockByOrderIdIn(orderIds);
+        stockReservationRepository.deleteByOrderIdIn(orderIds);
+    }
+
+    /**
+     * Drop the reservations of the given orders once their units have left stock.
+     */
+    public void fulfilReservations(Collection<Long> orderIds) {
+        if (!orderIds.isEmpty()) {
+            stockReservationRepository.deleteByOrderIdIn(orderIds);
+        }
+    }
+
+    // Reservations leave cached items' stock quantity behind on purpose, or every checkout would evict its items;
+    // stock levels are read with findStockQuantity. Restocks and stock-takes are rare, so they do evict.
+    private boolean stockChanged(Long furnitureId, int updated) {
+        if (updated == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(EntityChangedEvent.of(Furniture.class, furnitureId));
+        return true;
+    }
+
+    private void reconcile(Order order) {
+        // Units wanted per item, keyed in lock order; untracked items are made to order and need no reservation
+        Map<Long, Integer> wanted = new TreeMap<>();
+        Map<Long, Furniture> itemsById = new HashMap<>();
+        for (Furniture item : order.getItems()) {
+            wanted.merge(item.getId(), 1, Integer::sum);
+            itemsById.putIfAbsent(item.getId(), item);
+        }
+        if (!wanted.isEmpty()) {
+            wanted.keySet().retainAll(new HashSet<>(furnitureRepository.findStockTrackedIdsByIdIn(wanted.keySet())));
+        }
+
+        Map<Long, StockReservation> held = new HashMap<>();
+        for (StockReservation reservation : stockReservationRepository.findByOrder_Id(order.getId())) {
+            held.put(reservation.getFurniture().getId(), reservation);
+        }
+        if (wanted.isEmpty() && held.isEmpty()) {
+            return;
+        }
+
+        Set<Long> furnitureIds = new TreeSet<>(wanted.keySet());
+        furnitureIds.addAll(held.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        for (Long furnitureId : furnitureIds) {
+            int quantity = wanted.getOrDefault(furnitureId, 0);
+            StockReservation reservation = held.get(furnitureId);
+            int delta = quantity - (reservation != null ? reservation.getQuantity() : 0);
+            if (delta > 0 && furnitureRepository.reserveStock(furnitureId, delta) == 0) {
+                throw new IllegalStateException("Insufficient stock for furniture " + furnitureId);
+            } else if (delta < 0) {
+                furnitureRepository.releaseStock(furnitureId, -delta);
+            }
+
+            if (quantity == 0) {
+                stockReservationRepository.delete(reservation);
+            } else if (reservation == null) {
+                entityManager.persist(new StockReservation(null, order, itemsById.get(furnitureId), quantity, now));
+            } else if (delta != 0) {
+                reservation.setQuantity(quantity);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.toto.backend.services;
+
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.enums.SupplierStatus;
+import com.toto.backend.repositories.SupplierRepository;
+import com.toto.backend.services.cache.AfterCommit;
+import com.toto.backend.services.interfaces.ISupplierMatchingService;
+import com.toto.backend.services.matching.SupplierMatchCriteria;
+import com.toto.backend.services.matching.SupplierMatchIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for in-memory supplier matching.
+ * Builds a bitmap index of every supplier on first use and keeps it current from SupplierService's change
+ * notifications, which are applied only when the changing transaction commits.
+ */
+@Service
+public class SupplierMatchingService implements ISupplierMatchingService {
+
+    // Suppliers loaded per chunk when building the index; matches default_batch_fetch_size for the collections
+    private static final int LOAD_CHUNK_SIZE = 100;
+
+    private final SupplierRepository supplierRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate loadTransaction;
+
+    private volatile SupplierMatchIndex index;
+
+    @Autowired
+    public SupplierMatchingService(SupplierRepository supplierRepository, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager) {
+        this.supplierRepository = supplierRepository;
+        this.entityManager = entityManager;
+        // The index is loaded in a transaction of its own: load() clears the persistence context chunk by chunk, which
+        // would otherwise drop the unflushed changes of a caller's transaction that triggered the first load
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Find the IDs of suppliers matching every given criterion, most reliable first.
+     * Business logic: Answered from the in-memory index without touching the database.
+     */
+    public List<Long> findMatchingSupplierIds(SupplierMatchCriteria criteria, int limit) {
+        return index().match(criteria, limit);
+    }
+
+    /**
+     * Find the suppliers matching every given criterion, most reliable first.
+     * Business logic: Matching runs in memory; the suppliers themselves come from the second-level cache where possible.
+     */
+    @Transactional(readOnly = true)
+    public List<Supplier> findMatchingSuppliers(SupplierMatchCriteria criteria, int limit) {
+        List<Long> ids = findMatchingSupplierIds(criteria, limit);
+        Map<Long, Supplier> suppliersById = supplierRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Supplier::getId, Function.identity()));
+        return ids.stream().map(suppliersById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Check whether a supplier serves a city, ignoring case.
+     */
+    public boolean canServiceLocation(Long supplierId, String city) {
+        return index().servesCity(supplierId, city);
+    }
+
+    /**
+     * Record a saved supplier in the index once the current transaction commits.
+     * Business logic: The supplier's attributes are captured now, while its collections can still be loaded.
+     */
+    public void supplierSaved(Supplier supplier) {
+        SupplierMatchIndex.Attributes attributes = SupplierMatchIndex.Attributes.of(supplier);
+        AfterCommit.run(() -> applyToIndex(current -> current.put(attributes)));
+    }
+
+    /**
+     * Remove a deleted supplier from the index once the current transaction commits.
+     */
+    public void supplierDeleted(Long supplierId) {
+        AfterCommit.run(() -> applyToIndex(current -> current.remove(supplierId)));
+    }
+
+    /**
+     * Record a bulk status change in the index once the current transaction commits.
+     */
+    public void supplierStatusesChanged(Collection<Long> supplierIds, SupplierStatus status) {
+        List<Long> ids = List.copyOf(supplierIds);
+        AfterCommit.run(() -> applyToIndex(current -> current.updateStatus(ids, status)));
+    }
+
+    /**
+     * Drop the index once the current transaction commits; the next query rebuilds it from the database.
+     */
+    public void invalidate() {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                index = null;
+            }
+        });
+    }
+
+    private SupplierMatchIndex index() {
+        SupplierMatchIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (index == null) {
+                index = loadTransaction.execute(status -> load());
+            }
+            return index;
+        }
+    }
+
+    private SupplierMatchIndex load() {
+        SupplierMatchIndex loaded = new SupplierMatchIndex();
+        long afterId = 0;
+        List<Supplier> chunk;
+        while (!(chunk = supplierRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(LOAD_CHUNK_SIZE)))
+                .isEmpty()) {
+            chunk.forEach(loaded::put);
+            afterId = chunk.get(chunk.size() - 1).getId();
+            entityManager.clear();
+        }
+        return loaded;
+    }
+
+    private synchronized void applyToIndex(Consumer<SupplierMatchIndex> change) {
+        // Before the first query there is no index yet; it will be built from the committed data
+        if (index != null) {
+            change.accept(index);
+        }
+    }
+}
@@ -6,13 +6,30 @@ import com.toto.backend.entities.enums.SupplierStatus;
 import com.toto.backend.entities.enums.SupplierType;
 import com.toto.backend.entities.enums.WoodType;
 import com.toto.backend.repositories.SupplierRepository;
+import com.toto.backend.repositories.projections.StatusSnapshot;
+import com.toto.backend.services.batch.AscendingIdChunks;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import com.toto.backend.services.batch.TransitionOutcome;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
+import com.toto.backend.services.interfaces.ISupplierMatchingService;
 import com.toto.backend.services.interfaces.ISupplierService;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -24,11 +41,36 @@ import java.util.Set;
 @Transactional
 public class SupplierService implements ISupplierService {
 
+    // Suppliers locked and changed per bulk status statement, keeping the IN list far below the bind parameter limit
+    private static final int STATUS_UPDATE_BATCH_SIZE = 1_000;
+
+    // Suppliers rescored per chunk; matches default_batch_fetch_size so each collection loads in one query per chunk
+    private static final int RELIABILITY_CHUNK_SIZE = 100;
+
+    // Statuses a supplier may be moved from, per target status; termination is final
+    private static final Map<SupplierStatus, Set<SupplierStatus>> ALLOWED_SOURCE_STATUSES = Map.of(
+            SupplierStatus.ACTIVE, Set.of(SupplierStatus.ON_HOLD, SupplierStatus.UNDER_REVIEW, SupplierStatus.SUSPENDED),
+            SupplierStatus.ON_HOLD, Set.of(SupplierStatus.ACTIVE),
+            SupplierStatus.UNDER_REVIEW, Set.of(SupplierStatus.ACTIVE, SupplierStatus.ON_HOLD),
+            SupplierStatus.SUSPENDED, Set.of(SupplierStatus.ACTIVE, SupplierStatus.ON_HOLD, SupplierStatus.UNDER_REVIEW),
+            SupplierStatus.TERMINATED, Set.of(SupplierStatus.ACTIVE, SupplierStatus.ON_HOLD,
+                    SupplierStatus.UNDER_REVIEW, SupplierStatus.SUSPENDED));
+
     private final SupplierRepository supplierRepository;
+    private final ISupplierMatchingService supplierMatchingService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Supplier> cache;
 
     @Autowired
-    public SupplierService(SupplierRepository supplierRepository) {
+    public SupplierService(SupplierRepository supplierRepository, ISupplierMatchingService supplierMatchingService,
+                           EntityManager entityManager, IEntityCacheService entityCacheService,
+                           ApplicationEventPublisher eventPublisher) {
         this.supplierRepository = supplierRepository;
+        this.supplierMatchingService = supplierMatchingService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("suppliers", Supplier.class, supplierRepository::findById);
     }
 
     /**
@@ -40,13 +82,17 @@ public class SupplierService implements ISupplierService {
 
     /**
      * Find supplier by ID.
+     * Business logic: Outside a transaction, served from memory when cached, skipping even the second-level cache
+     * lookup; the returned supplier is a detached copy, not shared with other callers.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Supplier> findById(Long id) {
-        return supplierRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a supplier.
+     * Business logic: Recomputes the stored reliability score from the saved state.
      */
     public Supplier save(Supplier supplier) {
         // Set default status for new suppliers if not specified
@@ -54,7 +100,8 @@ public class SupplierService implements ISupplierService {
             supplier.setStatus(SupplierStatus.ACTIVE);
         }
 
-        return supplierRepository.save(supplier);
+        // Scored on the managed instance, whose collections can still be loaded if the caller's copy is detached
+        return changed(supplierRepository.save(supplier));
     }
 
     /**
@@ -62,6 +109,8 @@ public class SupplierService implements ISupplierService {
      */
     public void deleteById(Long id) {
         supplierRepository.deleteById(id);
+        supplierMatchingService.supplierDeleted(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Supplier.class, id));
     }
 
     /**
@@ -227,7 +276,8 @@ public class SupplierService implements ISupplierService {
 
     /**
      * Add a wood type to a supplier's offered wood types.
-     * Business logic: Adds a wood type to the supplier's woodTypesOffered list.
+     * Business logic: Adds a wood type to the supplier's woodTypesOffered list and
+     * recomputes the reliability score.
      */
     public Supplier addWoodTypeOffered(Long supplierId, WoodType woodType) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -235,14 +285,15 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<WoodType> woodTypes = supplier.getWoodTypesOffered();
             woodTypes.add(woodType);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
 
     /**
      * Remove a wood type from a supplier's offered wood types.
-     * Business logic: Removes a wood type from the supplier's woodTypesOffered list.
+     * Business logic: Removes a wood type from the supplier's woodTypesOffered list and
+     * recomputes the reliability score.
      */
     public Supplier removeWoodTypeOffered(Long supplierId, WoodType woodType) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -250,14 +301,15 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<WoodType> woodTypes = supplier.getWoodTypesOffered();
             woodTypes.remove(woodType);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
 
     /**
      * Add a specialty to a supplier's specialties.
-     * Business logic: Adds a specialty to the supplier's specialties list.
+     * Business logic: Adds a specialty to the supplier's specialties list and
+     * recomputes the reliability score.
      */
     public Supplier addSpecialty(Long supplierId, String specialty) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -265,14 +317,15 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<String> specialties = supplier.getSpecialties();
             specialties.add(specialty);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
 
     /**
      * Remove a specialty from a supplier's specialties.
-     * Business logic: Removes a specialty from the supplier's specialties list.
+     * Business logic: Removes a specialty from the supplier's specialties list and
+     * recomputes the reliability score.
      */
     public Supplier removeSpecialty(Long supplierId, String specialty) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -280,14 +333,15 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<String> specialties = supplier.getSpecialties();
             specialties.remove(specialty);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
 
     /**
      * Add a service city to a supplier's service cities.
-     * Business logic: Adds a service city to the supplier's serviceCities list.
+     * Business logic: Adds a service city to the supplier's serviceCities list and
+     * recomputes the reliability score.
      */
     public Supplier addServiceCity(Long supplierId, String city) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -295,14 +349,15 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<String> serviceCities = supplier.getServiceCities();
             serviceCities.add(city);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
 
     /**
      * Remove a service city from a supplier's service cities.
-     * Business logic: Removes a service city from the supplier's serviceCities list.
+     * Business logic: Removes a service city from the supplier's serviceCities list and
+     * recomputes the reliability score.
      */
     public Supplier removeServiceCity(Long supplierId, String city) {
         Optional<Supplier> supplierOpt = supplierRepository.findById(supplierId);
@@ -310,7 +365,7 @@ public class SupplierService implements ISupplierService {
             Supplier supplier = supplierOpt.get();
             List<String> serviceCities = supplier.getServiceCities();
             serviceCities.remove(city);
-            return supplierRepository.save(supplier);
+            return changed(supplierRepository.save(supplier));
         }
         return null;
     }
@@ -372,24 +427,124 @@ public class SupplierService implements ISupplierService {
     }
 
     /**
-     * Mark suppliers as on hold.
-     * Business logic: Marks active suppliers as on hold based on criteria.
+     * Recalculate the stored reliability score of every supplier.
+     * Business logic: Suppliers are walked in ID chunks with their collections batch-fetched, so scoring costs a few
+     * queries per chunk instead of three per supplier; only scores that changed are written.
      */
-    public int markSuppliersOnHold(List<Long> supplierIds) {
-        int count = 0;
-
-        for (Long id : supplierIds) {
-            Optional<Supplier> supplierOpt = supplierRepository.findById(id);
-            if (supplierOpt.isPresent()) {
-                Supplier supplier = supplierOpt.get();
-                if (supplier.getStatus() == SupplierStatus.ACTIVE) {
-                    supplier.setStatus(SupplierStatus.ON_HOLD);
-                    supplierRepository.save(supplier);
-                    count++;
+    public int recalculateReliabilityScores() {
+        int changed = 0;
+        long afterId = 0;
+        List<Supplier> chunk;
+        while (!(chunk = supplierRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(RELIABILITY_CHUNK_SIZE)))
+                .isEmpty()) {
+            for (Supplier supplier : chunk) {
+                int score = calculateReliabilityScore(supplier);
+                if (score != supplier.getReliabilityScore()) {
+                    supplier.setReliabilityScore(score);
+                    changed++;
                 }
             }
+            afterId = chunk.get(chunk.size() - 1).getId();
+            entityManager.flush();
+            entityManager.clear();
+        }
+        if (changed > 0) {
+            supplierMatchingService.invalidate();
+            eventPublisher.publishEvent(EntityChangedEvent.all(Supplier.class));
         }
+        return changed;
+    }
+
+    /**
+     * Find a page of all suppliers ranked by stored reliability score, highest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<Supplier> findRankedByReliability(Pageable pageable) {
+        return supplierRepository.findAllByOrderByReliabilityScoreDescIdAsc(pageable);
+    }
+
+    /**
+     * Find the most reliable active suppliers.
+     */
+    @Transactional(readOnly = true)
+    public List<Supplier> findMostReliable(int limit) {
+        return supplierRepository.findByStatusOrderByReliabilityScoreDescIdAsc(SupplierStatus.ACTIVE, Limit.of(limit));
+    }
+
+    /**
+     * Find the most reliable active suppliers of a supplier type.
+     */
+    @Transactional(readOnly = true)
+    public List<Supplier> findMostReliableBySupplierType(SupplierType supplierType, int limit) {
+        return supplierRepository.findMostReliableBySupplierType(supplierType, Limit.of(limit));
+    }
+
+    /**
+     * Find the most reliable active suppliers offering a wood type.
+     */
+    @Transactional(readOnly = true)
+    public List<Supplier> findMostReliableByWoodType(WoodType woodType, int limit) {
+        return supplierRepository.findMostReliableByWoodType(woodType, Limit.of(limit));
+    }
+
+    /**
+     * Find the most reliable active suppliers serving a city.
+     */
+    @Transactional(readOnly = true)
+    public List<Supplier> findMostReliableByServiceCity(String city, int limit) {
+        return supplierRepository.findMostReliableByServiceCity(city, Limit.of(limit));
+    }
 
-        return count;
+    /**
+     * Mark suppliers as on hold.
+     * Business logic: Marks active suppliers as on hold in one bulk transition; suppliers in any other status are skipped.
+     */
+    public int markSuppliersOnHold(List<Long> supplierIds) {
+        return (int) transitionSuppliers(supplierIds, SupplierStatus.ON_HOLD).count(TransitionOutcome.TRANSITIONED);
+    }
+
+    /**
+     * Move suppliers to a new status in bulk.
+     * Business logic: The suppliers are locked, checked against the statuses the target may be reached from and changed
+     * with set-based UPDATEs. Every requested ID gets an outcome.
+     */
+    public StatusTransitionResult<SupplierStatus> transitionSuppliers(Collection<Long> supplierIds,
+                                                                      SupplierStatus targetStatus) {
+        Set<Long> requestedIds = new LinkedHashSet<>(supplierIds);
+        List<StatusSnapshot<SupplierStatus>> current = AscendingIdChunks.collect(
+                requestedIds, STATUS_UPDATE_BATCH_SIZE, supplierRepository::lockStatusesByIdIn);
+        return applySupplierTransition(requestedIds, current, targetStatus);
+    }
+
+    /**
+     * Move every supplier in a status and city to a new status, e.g. put every UNDER_REVIEW supplier in Chiniot on hold.
+     */
+    public StatusTransitionResult<SupplierStatus> transitionSuppliers(SupplierStatus currentStatus, String city,
+                                                                      SupplierStatus targetStatus) {
+        List<StatusSnapshot<SupplierStatus>> current = supplierRepository.lockStatusesByStatusAndCity(currentStatus, city);
+        return applySupplierTransition(current.stream().map(StatusSnapshot::id).toList(), current, targetStatus);
+    }
+
+    private StatusTransitionResult<SupplierStatus> applySupplierTransition(Collection<Long> requestedIds,
+                                                                           List<StatusSnapshot<SupplierStatus>> current,
+                                                                           SupplierStatus targetStatus) {
+        Set<SupplierStatus> allowed = ALLOWED_SOURCE_STATUSES.get(targetStatus);
+        StatusTransitionResult<SupplierStatus> result =
+                StatusTransitionResult.of(targetStatus, requestedIds, current, allowed);
+        for (List<Long> batch : result.transitionedIdBatches(STATUS_UPDATE_BATCH_SIZE)) {
+            supplierRepository.updateStatus(batch, targetStatus, allowed);
+        }
+        supplierMatchingService.supplierStatusesChanged(result.transitionedIds(), targetStatus);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Supplier.class, result.transitionedIds()));
+        return result;
+    }
+
+    private Supplier changed(Supplier saved) {
+        // Shared by save() and the collection edits: the score and the match index both read the offered wood types,
+        // specialties and service cities
+        saved.setReliabilityScore(calculateReliabilityScore(saved));
+        supplierMatchingService.supplierSaved(saved);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Supplier.class, saved.getId()));
+        return saved;
     }
 }
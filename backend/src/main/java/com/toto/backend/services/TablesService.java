@@ -1,10 +1,17 @@
 package com.toto.backend.services;
 
 import com.toto.backend.entities.Tables;
+import com.toto.backend.entities.Supplier;
 import com.toto.backend.repositories.TablesRepository;
+import com.toto.backend.repositories.projections.TablesRow;
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.interfaces.IEntityCacheService;
 import com.toto.backend.services.interfaces.ITablesService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,10 +27,15 @@ import java.util.Optional;
 public class TablesService implements ITablesService {
 
     private final TablesRepository tablesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCache<Tables> cache;
 
     @Autowired
-    public TablesService(TablesRepository tablesRepository) {
+    public TablesService(TablesRepository tablesRepository, IEntityCacheService entityCacheService,
+                         ApplicationEventPublisher eventPublisher) {
         this.tablesRepository = tablesRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = entityCacheService.create("tables", Tables.class, tablesRepository::findById, Supplier.class);
     }
 
     /**
@@ -33,18 +45,29 @@ public class TablesService implements ITablesService {
         return tablesRepository.findAll();
     }
 
+    /**
+     * Find all tables as lightweight, read-only list rows.
+     */
+    @Transactional(readOnly = true)
+    public List<TablesRow> findAllRows() {
+        return tablesRepository.findAllRows();
+    }
+
     /**
      * Find table by ID.
+     * Business logic: Outside a transaction, served from memory when cached; the returned table is a detached copy, so
+     * changes stay local until it is saved.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Tables> findById(Long id) {
-        return tablesRepository.findById(id);
+        return cache.get(id);
     }
 
     /**
      * Save a table.
      */
     public Tables save(Tables table) {
-        return tablesRepository.save(table);
+        return changed(tablesRepository.save(table));
     }
 
     /**
@@ -52,6 +75,7 @@ public class TablesService implements ITablesService {
      */
     public void deleteById(Long id) {
         tablesRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.of(Tables.class, id));
     }
 
     /**
@@ -205,4 +229,9 @@ public class TablesService implements ITablesService {
         // Return area in square meters
         return (totalLength * totalWidth) / 10000.0; // Convert from cm² to m²
     }
+
+    private Tables changed(Tables saved) {
+        eventPublisher.publishEvent(EntityChangedEvent.of(Tables.class, saved.getId()));
+        return saved;
+    }
 }
@@ -0,0 +1,38 @@
+package com.toto.backend.services.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Walks a set of row IDs in ascending chunks, keeping each statement's IN list below the bind parameter limit.
+ * A row-locking statement locks its chunk in ID order; walking the chunks in ascending order as well keeps the locks
+ * of the whole set in one global ID order, as a single statement would. Bulk operations and single-row writes that
+ * lock in ID order can then share rows without deadlocking.
+ */
+public final class AscendingIdChunks {
+
+    private AscendingIdChunks() {
+    }
+
+    /**
+     * Run a statement per chunk of the distinct IDs, lowest IDs first.
+     */
+    public static void forEach(Collection<Long> ids, int chunkSize, Consumer<List<Long>> chunkStatement) {
+        List<Long> sortedIds = ids.stream().distinct().sorted().toList();
+        for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+            chunkStatement.accept(sortedIds.subList(from, Math.min(from + chunkSize, sortedIds.size())));
+        }
+    }
+
+    /**
+     * Run a query per chunk of the distinct IDs, lowest IDs first, and collect the rows of all chunks.
+     */
+    public static <T> List<T> collect(Collection<Long> ids, int chunkSize, Function<List<Long>, List<T>> chunkQuery) {
+        List<T> rows = new ArrayList<>(ids.size());
+        forEach(ids, chunkSize, chunk -> rows.addAll(chunkQuery.apply(chunk)));
+        return rows;
+    }
+}
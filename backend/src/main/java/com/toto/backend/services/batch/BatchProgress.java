@@ -0,0 +1,19 @@
+package com.toto.backend.services.batch;
+
+/**
+ * Progress of a chunked, set-based batch job, reported after each committed chunk.
+ * Chunks walk the primary key in ascending order, so lastProcessedId against maxId tells how far the job has come.
+ */
+public record BatchProgress(
+        int chunksCompleted,
+        long lastProcessedId,
+        long maxId,
+        long affectedSoFar) {
+
+    /**
+     * Approximate fraction of the ID range processed so far, between 0 and 1.
+     */
+    public double fractionComplete() {
+        return maxId <= 0 ? 1 : Math.min(1, (double) lastProcessedId / maxId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.toto.backend.services.batch;
+
+import com.toto.backend.repositories.projections.StatusSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-ID outcome of a bulk status transition, in the order the IDs were requested.
+ */
+public record StatusTransitionResult<S extends Enum<S>>(
+        S targetStatus,
+        Map<Long, TransitionOutcome> outcomes) {
+
+    /**
+     * Decide the outcome for every requested ID from the statuses read under lock.
+     * IDs whose current status is one of the allowed sources are the ones the bulk UPDATE is expected to change.
+     */
+    public static <S extends Enum<S>> StatusTransitionResult<S> of(S targetStatus,
+                                                                   Collection<Long> requestedIds,
+                                                                   List<StatusSnapshot<S>> current,
+                                                                   Set<S> allowedSources) {
+        Map<Long, S> statusById = new HashMap<>(current.size() * 2);
+        for (StatusSnapshot<S> snapshot : current) {
+            statusById.put(snapshot.id(), snapshot.status());
+        }
+
+        Map<Long, TransitionOutcome> outcomes = new LinkedHashMap<>(requestedIds.size() * 2);
+        for (Long id : requestedIds) {
+            S status = statusById.get(id);
+            TransitionOutcome outcome;
+            if (status == null) {
+                outcome = TransitionOutcome.NOT_FOUND;
+            } else if (status == targetStatus) {
+                outcome = TransitionOutcome.ALREADY_IN_TARGET;
+            } else if (allowedSources.contains(status)) {
+                outcome = TransitionOutcome.TRANSITIONED;
+            } else {
+                outcome = TransitionOutcome.NOT_ALLOWED;
+            }
+            outcomes.putIfAbsent(id, outcome);
+        }
+        return new StatusTransitionResult<>(targetStatus, Collections.unmodifiableMap(outcomes));
+    }
+
+    /**
+     * IDs whose status was changed.
+     */
+    public List<Long> transitionedIds() {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == TransitionOutcome.TRANSITIONED)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * IDs whose status was changed, split into batches of at most batchSize for the UPDATE statements.
+     */
+    public List<List<Long>> transitionedIdBatches(int batchSize) {
+        List<Long> ids = transitionedIds();
+        List<List<Long>> batches = new ArrayList<>((ids.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Number of requested IDs with the given outcome.
+     */
+    public long count(TransitionOutcome outcome) {
+        return outcomes.values().stream().filter(value -> value == outcome).count();
+    }
+}
@@ -0,0 +1,15 @@
+package com.toto.backend.services.batch;
+
+/**
+ * What a bulk status transition did with one requested ID.
+ */
+public enum TransitionOutcome {
+    /** The status was changed to the target status. */
+    TRANSITIONED,
+    /** The entity was already in the target status; nothing was written. */
+    ALREADY_IN_TARGET,
+    /** The current status is not an allowed source state for the target status. */
+    NOT_ALLOWED,
+    /** No entity exists with this ID. */
+    NOT_FOUND
+}
@@ -0,0 +1,113 @@
+package com.toto.backend.services.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.toto.backend.services.statistics.EntityCacheUsage;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of detached entities of one type by ID, created by IEntityCacheService.
+ * Entries are evicted by the EntityChangedEvents of their type and its supertypes, and dropped entirely by events of
+ * the types they embed (e.g. the supplier of a furniture item).
+ * Lookups inside a running transaction bypass the cache: the caller gets a managed entity that sees its own writes.
+ * Hits return a copy of the cached entity, so a caller editing what it got never changes what other callers see.
+ */
+public final class EntityCache<T extends Serializable> {
+
+    private final String name;
+    private final Class<T> entityType;
+    private final Set<Class<?>> embeddedTypes;
+    private final Function<Long, Optional<T>> loader;
+    private final LoadingCache<Long, T> entries;
+
+    public EntityCache(String name, Class<T> entityType, Set<Class<?>> embeddedTypes,
+                       Function<Long, Optional<T>> loader, LoadingCache<Long, T> entries) {
+        this.name = name;
+        this.entityType = entityType;
+        this.embeddedTypes = embeddedTypes;
+        this.loader = loader;
+        this.entries = entries;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get an entity, loading it on a miss; missing entities are not cached.
+     * Outside a transaction the caller gets its own detached copy of the cached entity.
+     */
+    public Optional<T> get(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(entries.get(id)).map(this::copyOf);
+    }
+
+    /**
+     * Drop the entries an entity change affects.
+     */
+    public void evict(EntityChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        Class<?> changedType = event.entityType();
+        if (changedType.isAssignableFrom(entityType) || entityType.isAssignableFrom(changedType)) {
+            if (event.affectsAll()) {
+                entries.invalidateAll();
+            } else {
+                entries.invalidateAll(event.ids());
+            }
+        } else if (embeddedTypes.stream().anyMatch(type -> type.isAssignableFrom(changedType))) {
+            entries.invalidateAll();
+        }
+    }
+
+    /**
+     * Drop every entry.
+     */
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    // A serialization round trip copies the whole detached graph, including loaded collections and embedded entities;
+    // collections that were never loaded stay unloaded. Classes are resolved with the entity's class loader, which
+    // is not the default one when the application runs under a restarting class loader.
+    private T copyOf(T entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy cached " + entityType.getSimpleName(), e);
+        }
+        try (ObjectInputStream in = new ConfigurableObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()), entityType.getClassLoader())) {
+            return entityType.cast(in.readObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy cached " + entityType.getSimpleName(), e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Could not copy cached " + entityType.getSimpleName(), e);
+        }
+    }
+
+    public EntityCacheUsage usage() {
+        CacheStats stats = entries.stats();
+        return new EntityCacheUsage(name, entries.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.loadSuccessCount(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,28 @@
+package com.toto.backend.services.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by the services when entities are saved, deleted or updated in bulk, so caches can drop them.
+ * affectsAll marks a change to any entity of the type, e.g. after a bulk UPDATE; otherwise only the given IDs changed,
+ * and an empty ID set means nothing did.
+ */
+public record EntityChangedEvent(Class<?> entityType, Set<Long> ids, boolean affectsAll) {
+
+    public static EntityChangedEvent of(Class<?> entityType, Long id) {
+        return new EntityChangedEvent(entityType, Set.of(id), false);
+    }
+
+    public static EntityChangedEvent of(Class<?> entityType, Collection<Long> ids) {
+        return new EntityChangedEvent(entityType, Set.copyOf(ids), false);
+    }
+
+    public static EntityChangedEvent all(Class<?> entityType) {
+        return new EntityChangedEvent(entityType, Set.of(), true);
+    }
+
+    public boolean isEmpty() {
+        return !affectsAll && ids.isEmpty();
+    }
+}
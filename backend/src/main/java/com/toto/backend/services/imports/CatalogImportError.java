@@ -0,0 +1,7 @@
+package com.toto.backend.services.imports;
+
+/**
+ * A catalog CSV row that was rejected during import.
+ */
+public record CatalogImportError(long lineNumber, String message) {
+}
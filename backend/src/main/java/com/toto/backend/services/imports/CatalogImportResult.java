@@ -0,0 +1,18 @@
+package com.toto.backend.services.imports;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a catalog import: how many rows were read and imported, per furniture type, and which rows were rejected.
+ */
+public record CatalogImportResult(
+        long rowsRead,
+        long rowsImported,
+        Map<String, Long> importedByType,
+        List<CatalogImportError> errors) {
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
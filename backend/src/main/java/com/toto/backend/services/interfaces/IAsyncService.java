@@ -0,0 +1,30 @@
+package com.toto.backend.services.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Interface for asynchronous service calls.
+ * Runs any call to the other services off the caller's thread, e.g. to keep the JavaFX application thread responsive
+ * or to fan out independent queries: {@code async.supply(() -> orderService.findPendingOrders())}.
+ */
+public interface IAsyncService {
+    
+    /**
+     * Run a service call on a virtual thread and complete the returned future with its result.
+     * Business logic: At most maxConcurrency() calls run at once, so they never exhaust the JDBC connection pool;
+     * further calls wait their turn. Each call runs in its own transaction, so returned entities are detached.
+     * A call must not wait for another asynchronous call, which could be queued behind it.
+     */
+    <T> CompletableFuture<T> supply(Supplier<T> call);
+    
+    /**
+     * Run a service call that returns nothing on a virtual thread.
+     */
+    CompletableFuture<Void> run(Runnable call);
+    
+    /**
+     * Get the number of calls allowed to run at once.
+     */
+    int maxConcurrency();
+}
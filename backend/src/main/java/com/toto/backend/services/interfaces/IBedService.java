@@ -1,6 +1,7 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Bed;
+import com.toto.backend.repositories.projections.BedRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,8 +17,14 @@ public interface IBedService {
      */
     List<Bed> findAll();
 
+    /**
+     * Find all beds as lightweight, read-only list rows.
+     */
+    List<BedRow> findAllRows();
+
     /**
      * Find bed by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Bed> findById(Long id);
 
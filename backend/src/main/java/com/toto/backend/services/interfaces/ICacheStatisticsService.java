@@ -0,0 +1,22 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.services.statistics.CacheRegionUsage;
+
+import java.util.List;
+
+/**
+ * Interface for second-level cache statistics.
+ * Exposes per-region hit rates of the Hibernate entity, collection and query caches.
+ */
+public interface ICacheStatisticsService {
+    
+    /**
+     * Get hit, miss and put counters for every cache region.
+     */
+    List<CacheRegionUsage> getRegionUsage();
+    
+    /**
+     * Reset all Hibernate statistics counters.
+     */
+    void resetStatistics();
+}
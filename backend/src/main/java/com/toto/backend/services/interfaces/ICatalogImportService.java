@@ -0,0 +1,20 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.services.imports.CatalogImportResult;
+
+import java.io.Reader;
+
+/**
+ * Interface for bulk catalog import operations.
+ * Defines the CSV ingest path for loading furniture of every type in one pass.
+ */
+public interface ICatalogImportService {
+    
+    /**
+     * Import a furniture catalog from CSV.
+     * The header row names the columns: furniture_type (CHAIR, BED, SOFA, TABLES or MISC), name and price are required;
+     * material, manufacturer, wood_type, supplier_id and the subtype columns (e.g. seating_capacity, size, shape) are optional.
+     * Business logic: Invalid rows are skipped and reported with their line number; the rest are imported.
+     */
+    CatalogImportResult importCatalog(Reader csv);
+}
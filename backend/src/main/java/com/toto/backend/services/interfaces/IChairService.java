@@ -1,6 +1,7 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Chair;
+import com.toto.backend.repositories.projections.ChairRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,8 +17,14 @@ public interface IChairService {
      */
     List<Chair> findAll();
     
+    /**
+     * Find all chairs as lightweight, read-only list rows.
+     */
+    List<ChairRow> findAllRows();
+    
     /**
      * Find chair by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Chair> findById(Long id);
     
@@ -4,10 +4,17 @@ import com.toto.backend.entities.Customer;
 import com.toto.backend.entities.enums.CustomerStatus;
 import com.toto.backend.entities.enums.CustomerType;
 import com.toto.backend.entities.enums.PaymentMethod;
+import com.toto.backend.repositories.projections.LoyaltyRanking;
+import com.toto.backend.services.batch.BatchProgress;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface for Customer service operations.
@@ -22,6 +29,7 @@ public interface ICustomerService {
     
     /**
      * Find customer by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Customer> findById(Long id);
     
@@ -30,6 +38,11 @@ public interface ICustomerService {
      */
     Customer save(Customer customer);
     
+    /**
+     * Save many customers in JDBC batches.
+     */
+    List<Customer> saveAll(List<Customer> customers);
+    
     /**
      * Delete a customer by ID.
      */
@@ -47,9 +60,15 @@ public interface ICustomerService {
     
     /**
      * Find customers by full name.
+     * Business logic: A blank name matches every customer, as an empty substring does; a null name matches none.
      */
     List<Customer> findByFullName(String name);
     
+    /**
+     * Search customers by partial name or phone number, returning at most {@code limit} matches ranked best first.
+     */
+    List<Customer> searchCustomers(String query, int limit);
+    
     /**
      * Find customer by primary phone number.
      */
@@ -131,15 +150,64 @@ public interface ICustomerService {
      */
     boolean upgradeToVipIfEligible(Long customerId);
     
+    /**
+     * Reclassify customers as VIP, looking only at customers who ordered since the previous run.
+     * Business logic: Scheduled nightly; the first run considers every customer. Returns the number promoted.
+     */
+    int reclassifyVipCustomers();
+    
+    /**
+     * Promote every customer with 5 or more orders to VIP in one bulk update.
+     * Business logic: With ordersSince set, only customers with an order on or after it are considered.
+     */
+    int reclassifyVipCustomers(LocalDateTime ordersSince);
+    
     /**
      * Calculate customer loyalty score based on order history and registration duration.
      * Business logic: Score is based on number of orders and years as a customer.
      */
     int calculateLoyaltyScore(Customer customer);
     
+    /**
+     * Find a page of the loyalty leaderboard, optionally filtered by city and customer type (null for all).
+     * Business logic: Customers are ranked by loyalty score, highest first; equal scores share a rank.
+     */
+    Page<LoyaltyRanking> findLoyaltyLeaderboard(String city, CustomerType customerType, Pageable pageable);
+    
+    /**
+     * Find the k most loyal customers, optionally filtered by city and customer type (null for all).
+     */
+    List<LoyaltyRanking> findTopLoyalCustomers(int k, String city, CustomerType customerType);
+    
     /**
      * Mark inactive customers based on last order date.
      * Business logic: Customers with no orders in the last year are marked as inactive.
      */
     int markInactiveCustomers();
-}
\ No newline at end of file
+    
+    /**
+     * Mark active customers with no orders after the cutoff as inactive, in keyset chunks of chunkSize customers.
+     * Business logic: Runs as set-based bulk updates without loading entities; progressListener is called after
+     * each committed chunk. Returns the number of customers marked inactive.
+     */
+    int markInactiveCustomers(LocalDateTime cutoff, int chunkSize, Consumer<BatchProgress> progressListener);
+    
+    /**
+     * Recompute every customer's order statistics from their orders and correct the ones that drifted.
+     * Business logic: Scheduled nightly as a safety net for writes made outside OrderService. Returns the number of
+     * customers corrected.
+     */
+    int reconcileOrderStats();
+    
+    /**
+     * Move customers to a new status in bulk.
+     * Business logic: Only customers in a status the target may be reached from are changed; every ID gets an outcome.
+     */
+    StatusTransitionResult<CustomerStatus> transitionCustomers(Collection<Long> customerIds, CustomerStatus targetStatus);
+    
+    /**
+     * Move every customer in a status and city to a new status.
+     */
+    StatusTransitionResult<CustomerStatus> transitionCustomers(CustomerStatus currentStatus, String city,
+                                                               CustomerStatus targetStatus);
+}
@@ -0,0 +1,42 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.services.cache.EntityCache;
+import com.toto.backend.services.cache.EntityChangedEvent;
+import com.toto.backend.services.statistics.EntityCacheUsage;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Interface for the service-level entity caches.
+ * Defines how services create their findById caches and the metrics they report.
+ */
+public interface IEntityCacheService {
+    
+    /**
+     * Create a cache of detached entities by ID, loaded with the given finder.
+     * Business logic: Entries are evicted by EntityChangedEvents for the entity type, and the whole cache is dropped by
+     * events for any of the embedded types. Each hit returns a copy of the cached entity.
+     */
+    <T extends Serializable> EntityCache<T> create(String name, Class<T> entityType,
+                                                   Function<Long, Optional<T>> loader,
+                                                   Class<?>... embeddedTypes);
+    
+    /**
+     * Evict the entries affected by an entity change from every cache.
+     * Business logic: Runs when the change is published and again when its transaction completes.
+     */
+    void onEntityChanged(EntityChangedEvent event);
+    
+    /**
+     * Get size, hit, miss, load and eviction counters for every entity cache.
+     */
+    List<EntityCacheUsage> getCacheUsage();
+    
+    /**
+     * Drop every entry of every entity cache.
+     */
+    void clearAll();
+}
@@ -2,6 +2,9 @@ package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Furniture;
 import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.repositories.projections.FurnitureSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +25,16 @@ public interface IFurnitureService {
      */
     List<Furniture> findAll();
     
+    /**
+     * Find all furniture as lightweight, read-only summary rows.
+     */
+    List<FurnitureSummary> findAllSummaries();
+    
+    /**
+     * Find a page of furniture as lightweight, read-only summary rows.
+     */
+    Page<FurnitureSummary> findSummaries(Pageable pageable);
+    
     /**
      * Find furniture by ID.
      */
@@ -32,6 +45,11 @@ public interface IFurnitureService {
      */
     Furniture save(Furniture furniture);
     
+    /**
+     * Save many furniture items in JDBC batches.
+     */
+    <T extends Furniture> List<T> saveAll(List<T> furniture);
+    
     /**
      * Delete a furniture item by ID.
      */
@@ -77,6 +95,26 @@ public interface IFurnitureService {
      */
     List<Furniture> findTopSellingFurniture(int limit);
     
+    /**
+     * Find furniture of one concrete type (Chair.class, Bed.class, etc.) as read-only summary rows.
+     */
+    List<FurnitureSummary> findSummariesByType(Class<? extends Furniture> type);
+    
+    /**
+     * Find furniture by price range as read-only summary rows.
+     */
+    List<FurnitureSummary> findSummariesByPriceRange(double minPrice, double maxPrice);
+    
+    /**
+     * Find furniture by wood type as read-only summary rows.
+     */
+    List<FurnitureSummary> findSummariesByWoodType(WoodType woodType);
+    
+    /**
+     * Find top selling furniture items as read-only summary rows.
+     */
+    List<FurnitureSummary> findTopSellingSummaries(int limit);
+    
     /**
      * Find furniture by supplier city.
      */
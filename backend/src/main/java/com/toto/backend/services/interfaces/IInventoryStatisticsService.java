@@ -0,0 +1,22 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.services.statistics.InventoryStatistics;
+
+/**
+ * Interface for inventory statistics operations.
+ * Defines the aggregate catalog counts shown on the dashboard.
+ */
+public interface IInventoryStatisticsService {
+    
+    /**
+     * Get catalog counts per furniture type, wood type and supplier.
+     * Business logic: Counts are cached for a short TTL and dropped when furniture or suppliers are saved, deleted or
+     * imported through the services; changes made directly in the database may lag by up to the TTL.
+     */
+    InventoryStatistics getStatistics();
+    
+    /**
+     * Drop the cached counts so the next call recomputes them.
+     */
+    void evict();
+}
@@ -1,6 +1,7 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.repositories.projections.MiscFurnitureRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,8 +17,14 @@ public interface IMiscFurnitureService {
      */
     List<MiscFurniture> findAll();
     
+    /**
+     * Find all miscellaneous furniture items as lightweight, read-only list rows.
+     */
+    List<MiscFurnitureRow> findAllRows();
+    
     /**
      * Find miscellaneous furniture by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<MiscFurniture> findById(Long id);
     
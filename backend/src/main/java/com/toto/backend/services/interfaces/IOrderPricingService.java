@@ -0,0 +1,41 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Order;
+import com.toto.backend.services.pricing.CartItem;
+import com.toto.backend.services.pricing.CartQuote;
+import com.toto.backend.services.pricing.LinePrice;
+import com.toto.backend.services.pricing.OrderPricing;
+
+import java.util.List;
+
+/**
+ * Interface for order pricing.
+ * Defines the single pricing pass shared by order saves, quotes and bulk repricing.
+ */
+public interface IOrderPricingService {
+    
+    /**
+     * Price an order from its items, their suppliers and its delivery and installation charges.
+     */
+    OrderPricing price(Order order);
+    
+    /**
+     * Price a list of items as one order.
+     * Business logic: Lines earn their furniture type's discount; lines from one supplier that reach its minimum order
+     * amount earn its bulk discount; charges are added last.
+     */
+    OrderPricing price(List<? extends Furniture> items, Double deliveryCharges, Double installationCharges);
+    
+    /**
+     * Quote a cart of furniture IDs and quantities, e.g. a wholesale or corporate order of hundreds of lines.
+     * Business logic: Loads what it needs in a fixed number of queries, reusing cached line prices of unchanged items;
+     * unknown IDs are reported and left out of the totals.
+     */
+    CartQuote quote(List<CartItem> items);
+    
+    /**
+     * Price a single item, reusing the cached price while the item's version is unchanged.
+     */
+    LinePrice priceLine(Furniture furniture);
+}
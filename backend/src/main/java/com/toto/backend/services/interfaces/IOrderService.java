@@ -1,12 +1,24 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Order;
+import com.toto.backend.entities.OrderInstallment;
 import com.toto.backend.entities.enums.OrderStatus;
 import com.toto.backend.entities.enums.PaymentMethod;
 import com.toto.backend.entities.enums.PaymentPlan;
 import com.toto.backend.entities.enums.PaymentStatus;
+import com.toto.backend.repositories.projections.PaymentLedgerEntry;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import com.toto.backend.services.payments.PaymentPosting;
+import com.toto.backend.services.payments.PaymentPostingResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,9 +40,16 @@ public interface IOrderService {
     
     /**
      * Save an order.
+     * Business logic: An open order's items are reserved from stock; throws IllegalStateException when an item is
+     * out of stock, in which case nothing is saved. A change of the advance payment is posted to the payment ledger.
      */
     Order save(Order order);
     
+    /**
+     * Save many orders in JDBC batches.
+     */
+    List<Order> saveAll(List<Order> orders);
+    
     /**
      * Delete an order by ID.
      */
@@ -152,15 +171,165 @@ public interface IOrderService {
      */
     Order updateOrderStatus(Long orderId, OrderStatus newStatus);
     
+    /**
+     * Move orders to a new status in bulk.
+     * Business logic: Only orders in a status the target may be reached from are changed; every ID gets an outcome.
+     * Cancelled orders return their reserved stock.
+     */
+    StatusTransitionResult<OrderStatus> transitionOrders(Collection<Long> orderIds, OrderStatus targetStatus);
+    
+    /**
+     * Move every order in a status and delivery city to a new status, e.g. ship every CONFIRMED order in Lahore.
+     */
+    StatusTransitionResult<OrderStatus> transitionOrders(OrderStatus currentStatus, String deliveryCity,
+                                                         OrderStatus targetStatus);
+    
     /**
      * Update payment status.
-     * Business logic: Updates the payment status and calculates remaining payment if needed.
+     * Business logic: Updates the payment status and calculates remaining payment if needed; a payment is recorded with
+     * one atomic UPDATE, so concurrent payments on the same order are never lost, and appended to the payment ledger.
      */
     Order updatePaymentStatus(Long orderId, PaymentStatus newStatus, Double paymentAmount);
     
+    /**
+     * Post a batch of payments, e.g. an end-of-day Easy Paisa or Jazz Cash settlement file.
+     * Business logic: Payments are appended to the ledger without locking their orders; payments for unknown orders,
+     * with a non-positive amount or with an already posted reference are rejected and reported.
+     */
+    PaymentPostingResult postPayments(List<PaymentPosting> payments);
+    
+    /**
+     * Find the amount paid on an order so far, including payments not yet compacted into the order.
+     */
+    double findPaidAmount(Long orderId);
+    
+    /**
+     * Find the payments of an order in the order received, each with the running paid amount.
+     */
+    List<PaymentLedgerEntry> findPaymentLedger(Long orderId);
+    
+    /**
+     * Compact the payment ledger into the orders with payments recorded since the previous run.
+     * Business logic: Scheduled every five minutes; the first run compacts every order. Returns the number of orders changed.
+     */
+    int compactPaymentBalances();
+    
+    /**
+     * Compact the payment ledger into the orders' advance payment, remaining payment and payment status.
+     * Business logic: With recordedSince set, only orders with a payment recorded on or after it are compacted.
+     */
+    int compactPaymentBalances(LocalDateTime recordedSince);
+    
     /**
      * Calculate installment plan.
-     * Business logic: Calculates monthly installment amount based on total amount and installment months.
+     * Business logic: Calculates monthly installment amount based on total amount and installment months, and generates
+     * the order's installment schedule.
      */
     Order calculateInstallmentPlan(Long orderId, Integer installmentMonths);
+    
+    /**
+     * Find the installments of an order in plan order.
+     */
+    List<OrderInstallment> findInstallmentsByOrderId(Long orderId);
+    
+    /**
+     * Find a slice of unpaid installments across all orders falling due between two dates (inclusive), earliest first.
+     * Business logic: Answered from the due-date index, e.g. for this week's collection calls.
+     */
+    Slice<OrderInstallment> findInstallmentsDueBetween(LocalDate from, LocalDate to, Pageable pageable);
+    
+    /**
+     * Find a slice of unpaid installments across all orders that fell due before a date, earliest first.
+     */
+    Slice<OrderInstallment> findOverdueInstallments(LocalDate asOf, Pageable pageable);
+    
+    /**
+     * Mark an installment as paid.
+     * Business logic: Records the installment amount as a payment on its order; an installment already paid is returned
+     * unchanged.
+     */
+    OrderInstallment markInstallmentPaid(Long installmentId);
+    
+    /**
+     * Reprice every open (pending, confirmed or processing) order.
+     * Business logic: Orders are repriced in chunks, each in its own transaction; returns the number whose total changed.
+     */
+    int repriceOpenOrders();
+    
+    /**
+     * Reprice the open orders containing any of the given furniture items, e.g. after their prices changed.
+     */
+    int repriceOpenOrdersContaining(Collection<Long> furnitureIds);
+    
+    /**
+     * Find a page of orders by customer ID.
+     */
+    Page<Order> findByCustomerId(Long customerId, Pageable pageable);
+    
+    /**
+     * Find a page of orders by order status.
+     */
+    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    
+    /**
+     * Find a page of orders by payment status.
+     */
+    Page<Order> findByPaymentStatus(PaymentStatus paymentStatus, Pageable pageable);
+    
+    /**
+     * Find a slice of orders by order date between two dates.
+     */
+    Slice<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    
+    /**
+     * Find a page of orders by delivery city.
+     */
+    Page<Order> findByDeliveryCity(String city, Pageable pageable);
+    
+    /**
+     * Find a page of orders with pending payments (payment status PENDING or PARTIAL).
+     */
+    Page<Order> findOrdersWithPendingPayments(Pageable pageable);
+    
+    /**
+     * Scroll through all orders ordered by (orderDate, id).
+     * Pass {@code ScrollPosition.keyset()} for the first window and {@code window.positionAt(...)} afterwards.
+     */
+    Window<Order> scrollOrders(ScrollPosition position, int pageSize);
+    
+    /**
+     * Scroll through orders by order status ordered by (orderDate, id).
+     */
+    Window<Order> scrollByStatus(OrderStatus status, ScrollPosition position, int pageSize);
+    
+    /**
+     * Scroll through orders by order date between two dates ordered by (orderDate, id).
+     */
+    Window<Order> scrollByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate,
+                                           ScrollPosition position, int pageSize);
+    
+    /**
+     * Find a page of order summaries (orders with their customer).
+     */
+    Page<Order> findOrderSummaries(Pageable pageable);
+    
+    /**
+     * Find a page of order summaries by order status.
+     */
+    Page<Order> findOrderSummariesByStatus(OrderStatus status, Pageable pageable);
+    
+    /**
+     * Find order summaries by customer ID.
+     */
+    List<Order> findOrderSummariesByCustomerId(Long customerId);
+    
+    /**
+     * Find an order with its customer, items and item suppliers.
+     */
+    Optional<Order> findByIdWithLines(Long id);
+    
+    /**
+     * Find a page of orders by order status with their customer, items and item suppliers.
+     */
+    Page<Order> findWithLinesByStatus(OrderStatus status, Pageable pageable);
 }
\ No newline at end of file
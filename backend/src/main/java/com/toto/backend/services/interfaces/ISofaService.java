@@ -1,6 +1,7 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Sofa;
+import com.toto.backend.repositories.projections.SofaRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,8 +17,14 @@ public interface ISofaService {
      */
     List<Sofa> findAll();
 
+    /**
+     * Find all sofas as lightweight, read-only list rows.
+     */
+    List<SofaRow> findAllRows();
+
     /**
      * Find sofa by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Sofa> findById(Long id);
 
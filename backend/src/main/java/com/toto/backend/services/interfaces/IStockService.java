@@ -0,0 +1,61 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.entities.Order;
+import com.toto.backend.entities.StockReservation;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface for furniture stock operations.
+ * Defines stock levels per furniture item and the reservations open orders hold against them.
+ */
+public interface IStockService {
+    
+    /**
+     * Find the unreserved stock of a furniture item; null when the item is not stock-tracked.
+     */
+    Integer findStockQuantity(Long furnitureId);
+    
+    /**
+     * Add received units to a furniture item's stock, starting to track it if it was not.
+     * Business logic: Returns false when the item does not exist.
+     */
+    boolean restock(Long furnitureId, int quantity);
+    
+    /**
+     * Set the unreserved stock of a furniture item, e.g. after a stock-take; null stops tracking it.
+     * Business logic: Returns false when the item does not exist.
+     */
+    boolean setStockQuantity(Long furnitureId, Integer quantity);
+    
+    /**
+     * Find the stock reservations held by an order.
+     */
+    List<StockReservation> findReservationsByOrderId(Long orderId);
+    
+    /**
+     * Bring an order's stock reservations in line with its items and status.
+     * Business logic: An open order holds one unit per item line, reserving added lines and releasing removed ones;
+     * a shipped or delivered order's units have left stock, and a cancelled order's units are returned.
+     * Throws IllegalStateException, rolling back the caller's transaction, when an item does not have enough stock.
+     */
+    void syncReservations(Order order);
+    
+    /**
+     * Bring the stock reservations of many orders in line with their items and statuses, e.g. after a bulk import.
+     * Business logic: Every item the orders want or hold is locked up front, so the sync takes its row locks in one
+     * global order however many orders it covers. Throws IllegalStateException as syncReservations(Order) does.
+     */
+    void syncReservations(Collection<Order> orders);
+    
+    /**
+     * Return the units reserved by the given orders to stock and drop their reservations.
+     */
+    void releaseReservations(Collection<Long> orderIds);
+    
+    /**
+     * Drop the reservations of the given orders once their units have left stock.
+     */
+    void fulfilReservations(Collection<Long> orderIds);
+}
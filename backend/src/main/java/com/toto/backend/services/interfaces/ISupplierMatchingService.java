@@ -0,0 +1,51 @@
+package com.toto.backend.services.interfaces;
+
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.enums.SupplierStatus;
+import com.toto.backend.services.matching.SupplierMatchCriteria;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface for in-memory supplier matching.
+ * Defines multi-criteria sourcing queries and the change notifications that keep the index current.
+ */
+public interface ISupplierMatchingService {
+    
+    /**
+     * Find the IDs of suppliers matching every given criterion, most reliable first.
+     * Business logic: Answered from the in-memory index without touching the database.
+     */
+    List<Long> findMatchingSupplierIds(SupplierMatchCriteria criteria, int limit);
+    
+    /**
+     * Find the suppliers matching every given criterion, most reliable first.
+     */
+    List<Supplier> findMatchingSuppliers(SupplierMatchCriteria criteria, int limit);
+    
+    /**
+     * Check whether a supplier serves a city, ignoring case.
+     */
+    boolean canServiceLocation(Long supplierId, String city);
+    
+    /**
+     * Record a saved supplier in the index once the current transaction commits.
+     */
+    void supplierSaved(Supplier supplier);
+    
+    /**
+     * Remove a deleted supplier from the index once the current transaction commits.
+     */
+    void supplierDeleted(Long supplierId);
+    
+    /**
+     * Record a bulk status change in the index once the current transaction commits.
+     */
+    void supplierStatusesChanged(Collection<Long> supplierIds, SupplierStatus status);
+    
+    /**
+     * Drop the index once the current transaction commits; the next query rebuilds it from the database.
+     */
+    void invalidate();
+}
@@ -5,7 +5,11 @@ import com.toto.backend.entities.enums.PaymentMethod;
 import com.toto.backend.entities.enums.SupplierStatus;
 import com.toto.backend.entities.enums.SupplierType;
 import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.services.batch.StatusTransitionResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,11 +26,13 @@ public interface ISupplierService {
     
     /**
      * Find supplier by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Supplier> findById(Long id);
     
     /**
      * Save a supplier.
+     * Business logic: Recomputes the stored reliability score from the saved state.
      */
     Supplier save(Supplier supplier);
     
@@ -192,9 +198,53 @@ public interface ISupplierService {
      */
     int calculateReliabilityScore(Supplier supplier);
     
+    /**
+     * Recalculate the stored reliability score of every supplier.
+     * Business logic: Scores are kept current on save; this is for formula changes and data loaded around the service.
+     * Returns the number of suppliers whose score changed.
+     */
+    int recalculateReliabilityScores();
+    
+    /**
+     * Find a page of all suppliers ranked by stored reliability score, highest first.
+     */
+    Page<Supplier> findRankedByReliability(Pageable pageable);
+    
+    /**
+     * Find the most reliable active suppliers.
+     */
+    List<Supplier> findMostReliable(int limit);
+    
+    /**
+     * Find the most reliable active suppliers of a supplier type.
+     */
+    List<Supplier> findMostReliableBySupplierType(SupplierType supplierType, int limit);
+    
+    /**
+     * Find the most reliable active suppliers offering a wood type.
+     */
+    List<Supplier> findMostReliableByWoodType(WoodType woodType, int limit);
+    
+    /**
+     * Find the most reliable active suppliers serving a city.
+     */
+    List<Supplier> findMostReliableByServiceCity(String city, int limit);
+    
     /**
      * Mark suppliers as on hold.
-     * Business logic: Marks active suppliers as on hold based on criteria.
+     * Business logic: Marks active suppliers as on hold in one bulk transition; suppliers in any other status are skipped.
      */
     int markSuppliersOnHold(List<Long> supplierIds);
+    
+    /**
+     * Move suppliers to a new status in bulk.
+     * Business logic: Only suppliers in a status the target may be reached from are changed; every ID gets an outcome.
+     */
+    StatusTransitionResult<SupplierStatus> transitionSuppliers(Collection<Long> supplierIds, SupplierStatus targetStatus);
+    
+    /**
+     * Move every supplier in a status and city to a new status.
+     */
+    StatusTransitionResult<SupplierStatus> transitionSuppliers(SupplierStatus currentStatus, String city,
+                                                               SupplierStatus targetStatus);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.toto.backend.services.interfaces;
 
 import com.toto.backend.entities.Tables;
+import com.toto.backend.repositories.projections.TablesRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,8 +18,14 @@ public interface ITablesService {
      */
     List<Tables> findAll();
     
+    /**
+     * Find all tables as lightweight, read-only list rows.
+     */
+    List<TablesRow> findAllRows();
+    
     /**
      * Find table by ID.
+     * Business logic: Outside a transaction, repeated lookups are served from memory and each result is a detached copy.
      */
     Optional<Tables> findById(Long id);
     
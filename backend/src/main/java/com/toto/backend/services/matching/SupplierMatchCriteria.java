@@ -0,0 +1,33 @@
+package com.toto.backend.services.matching;
+
+import com.toto.backend.entities.enums.SupplierStatus;
+import com.toto.backend.entities.enums.SupplierType;
+import com.toto.backend.entities.enums.WoodType;
+import lombok.Builder;
+import lombok.Singular;
+
+import java.util.Set;
+
+/**
+ * A multi-criteria sourcing question, e.g. "active suppliers offering teak that serve Lahore and deliver within two weeks".
+ * Every criterion left null (or empty) matches all suppliers; status defaults to ACTIVE.
+ * The specialty matches any specialty containing the given text, ignoring case.
+ */
+@Builder
+public record SupplierMatchCriteria(
+        @Singular Set<WoodType> woodTypes,
+        String serviceCity,
+        String specialty,
+        Integer maxLeadTimeInDays,
+        Boolean providesInstallation,
+        Boolean providesCustomWork,
+        SupplierType supplierType,
+        SupplierStatus status) {
+
+    public SupplierMatchCriteria {
+        woodTypes = woodTypes == null ? Set.of() : Set.copyOf(woodTypes);
+        if (status == null) {
+            status = SupplierStatus.ACTIVE;
+        }
+    }
+}
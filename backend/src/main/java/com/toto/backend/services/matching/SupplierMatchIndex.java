@@ -0,0 +1,336 @@
+package com.toto.backend.services.matching;
+
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.enums.SupplierStatus;
+import com.toto.backend.entities.enums.SupplierType;
+import com.toto.backend.entities.enums.WoodType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index over the supplier attributes used for sourcing.
+ * Each supplier owns a slot; every attribute value keeps a BitSet of the slots that have it, so a multi-criteria
+ * match is a handful of BitSet ANDs. Cities and specialties are interned to dense IDs, lead times are kept in a sorted
+ * map so "at most N days" is a head-map union. Safe for concurrent readers with occasional incremental writers.
+ */
+public class SupplierMatchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotsBySupplierId = new HashMap<>();
+    private final List<Entry> entriesBySlot = new ArrayList<>();
+
+    private final Map<SupplierStatus, BitSet> byStatus = new EnumMap<>(SupplierStatus.class);
+    private final Map<SupplierType, BitSet> bySupplierType = new EnumMap<>(SupplierType.class);
+    private final Map<WoodType, BitSet> byWoodType = new EnumMap<>(WoodType.class);
+    private final NavigableMap<Integer, BitSet> byLeadTime = new TreeMap<>();
+    private final BitSet providesInstallation = new BitSet();
+    private final BitSet providesCustomWork = new BitSet();
+
+    private final Map<String, Integer> cityIds = new HashMap<>();
+    private final List<BitSet> byCity = new ArrayList<>();
+    private final Map<String, Integer> specialtyIds = new HashMap<>();
+    private final List<BitSet> bySpecialty = new ArrayList<>();
+
+    /**
+     * Add a supplier, or replace its previous entry.
+     */
+    public void put(Supplier supplier) {
+        put(Attributes.of(supplier));
+    }
+
+    /**
+     * Add a supplier from attributes captured earlier, or replace its previous entry.
+     */
+    public void put(Attributes attributes) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = new Entry(
+                    attributes.supplierId(),
+                    attributes.status(),
+                    attributes.supplierType(),
+                    attributes.woodTypes(),
+                    attributes.leadTimeInDays(),
+                    attributes.providesInstallation(),
+                    attributes.providesCustomWork(),
+                    intern(attributes.serviceCities(), cityIds, byCity),
+                    intern(attributes.specialties(), specialtyIds, bySpecialty),
+                    attributes.reliabilityScore());
+            Integer slot = slotsBySupplierId.get(entry.supplierId());
+            if (slot == null) {
+                slot = entriesBySlot.size();
+                entriesBySlot.add(null);
+                slotsBySupplierId.put(entry.supplierId(), slot);
+            } else {
+                clearSlot(slot);
+            }
+            fillSlot(slot, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a supplier. Its slot stays unused until the index is rebuilt.
+     */
+    public void remove(Long supplierId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsBySupplierId.remove(supplierId);
+            if (slot != null) {
+                clearSlot(slot);
+                entriesBySlot.set(slot, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move suppliers to a new status without re-reading the rest of their attributes.
+     */
+    public void updateStatus(Collection<Long> supplierIds, SupplierStatus status) {
+        lock.writeLock().lock();
+        try {
+            for (Long supplierId : supplierIds) {
+                Integer slot = slotsBySupplierId.get(supplierId);
+                if (slot != null) {
+                    Entry entry = entriesBySlot.get(slot);
+                    byStatus.get(entry.status()).clear(slot);
+                    bitSet(byStatus, status).set(slot);
+                    entriesBySlot.set(slot, entry.withStatus(status));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the IDs of suppliers matching every given criterion, most reliable first, at most limit of them.
+     */
+    public List<Long> match(SupplierMatchCriteria criteria, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) byStatus.getOrDefault(criteria.status(), new BitSet()).clone();
+            if (criteria.supplierType() != null) {
+                result.and(bySupplierType.getOrDefault(criteria.supplierType(), new BitSet()));
+            }
+            for (WoodType woodType : criteria.woodTypes()) {
+                result.and(byWoodType.getOrDefault(woodType, new BitSet()));
+            }
+            if (criteria.serviceCity() != null) {
+                Integer cityId = cityIds.get(normalize(criteria.serviceCity()));
+                result.and(cityId == null ? new BitSet() : byCity.get(cityId));
+            }
+            if (criteria.specialty() != null) {
+                result.and(specialtiesContaining(normalize(criteria.specialty())));
+            }
+            if (criteria.maxLeadTimeInDays() != null) {
+                BitSet withinLeadTime = new BitSet();
+                byLeadTime.headMap(criteria.maxLeadTimeInDays(), true).values().forEach(withinLeadTime::or);
+                result.and(withinLeadTime);
+            }
+            if (criteria.providesInstallation() != null) {
+                andFlag(result, providesInstallation, criteria.providesInstallation());
+            }
+            if (criteria.providesCustomWork() != null) {
+                andFlag(result, providesCustomWork, criteria.providesCustomWork());
+            }
+
+            return result.stream()
+                    .mapToObj(entriesBySlot::get)
+                    .sorted(Comparator.comparingInt(Entry::reliabilityScore).reversed()
+                            .thenComparing(Entry::supplierId))
+                    .limit(limit)
+                    .map(Entry::supplierId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the supplier serves the given city, ignoring case.
+     */
+    public boolean servesCity(Long supplierId, String city) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsBySupplierId.get(supplierId);
+            Integer cityId = cityIds.get(normalize(city));
+            return slot != null && cityId != null && byCity.get(cityId).get(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of suppliers in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsBySupplierId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void fillSlot(int slot, Entry entry) {
+        entriesBySlot.set(slot, entry);
+        bitSet(byStatus, entry.status()).set(slot);
+        if (entry.supplierType() != null) {
+            bitSet(bySupplierType, entry.supplierType()).set(slot);
+        }
+        for (WoodType woodType : entry.woodTypes()) {
+            bitSet(byWoodType, woodType).set(slot);
+        }
+        if (entry.leadTimeInDays() != null) {
+            byLeadTime.computeIfAbsent(entry.leadTimeInDays(), days -> new BitSet()).set(slot);
+        }
+        providesInstallation.set(slot, entry.providesInstallation());
+        providesCustomWork.set(slot, entry.providesCustomWork());
+        for (int cityId : entry.cityIds()) {
+            byCity.get(cityId).set(slot);
+        }
+        for (int specialtyId : entry.specialtyIds()) {
+            bySpecialty.get(specialtyId).set(slot);
+        }
+    }
+
+    private void clearSlot(int slot) {
+        Entry entry = entriesBySlot.get(slot);
+        byStatus.get(entry.status()).clear(slot);
+        if (entry.supplierType() != null) {
+            bySupplierType.get(entry.supplierType()).clear(slot);
+        }
+        for (WoodType woodType : entry.woodTypes()) {
+            byWoodType.get(woodType).clear(slot);
+        }
+        if (entry.leadTimeInDays() != null) {
+            byLeadTime.get(entry.leadTimeInDays()).clear(slot);
+        }
+        providesInstallation.clear(slot);
+        providesCustomWork.clear(slot);
+        for (int cityId : entry.cityIds()) {
+            byCity.get(cityId).clear(slot);
+        }
+        for (int specialtyId : entry.specialtyIds()) {
+            bySpecialty.get(specialtyId).clear(slot);
+        }
+    }
+
+    private int[] intern(List<String> values, Map<String, Integer> ids, List<BitSet> bitSets) {
+        return values.stream()
+                .mapToInt(value -> ids.computeIfAbsent(value, key -> {
+                    bitSets.add(new BitSet());
+                    return bitSets.size() - 1;
+                }))
+                .toArray();
+    }
+
+    private BitSet specialtiesContaining(String text) {
+        // Distinct specialties are few, so a substring scan of the dictionary is cheaper than any text index
+        BitSet matching = new BitSet();
+        specialtyIds.forEach((specialty, id) -> {
+            if (specialty.contains(text)) {
+                matching.or(bySpecialty.get(id));
+            }
+        });
+        return matching;
+    }
+
+    private void andFlag(BitSet result, BitSet flag, boolean required) {
+        if (required) {
+            result.and(flag);
+        } else {
+            result.andNot(flag);
+        }
+    }
+
+    private static <K extends Enum<K>> BitSet bitSet(Map<K, BitSet> bitSets, K key) {
+        return bitSets.computeIfAbsent(key, k -> new BitSet());
+    }
+
+    private static List<String> normalizeAll(Collection<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(SupplierMatchIndex::normalize)
+                .distinct()
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The indexed attributes of one supplier, copied out of the entity.
+     * Capture them while the supplier's collections can still be loaded, then apply them with put, e.g. after commit.
+     */
+    public record Attributes(
+            Long supplierId,
+            SupplierStatus status,
+            SupplierType supplierType,
+            Set<WoodType> woodTypes,
+            Integer leadTimeInDays,
+            boolean providesInstallation,
+            boolean providesCustomWork,
+            List<String> serviceCities,
+            List<String> specialties,
+            int reliabilityScore) {
+
+        public static Attributes of(Supplier supplier) {
+            EnumSet<WoodType> woodTypes = EnumSet.noneOf(WoodType.class);
+            if (supplier.getWoodTypesOffered() != null) {
+                woodTypes.addAll(supplier.getWoodTypesOffered());
+            }
+            return new Attributes(
+                    supplier.getId(),
+                    supplier.getStatus(),
+                    supplier.getSupplierType(),
+                    woodTypes,
+                    supplier.getStandardLeadTimeInDays(),
+                    supplier.isProvidesInstallation(),
+                    supplier.isProvidesCustomWork(),
+                    normalizeAll(supplier.getServiceCities()),
+                    normalizeAll(supplier.getSpecialties()),
+                    supplier.getReliabilityScore());
+        }
+    }
+
+    private record Entry(
+            Long supplierId,
+            SupplierStatus status,
+            SupplierType supplierType,
+            Set<WoodType> woodTypes,
+            Integer leadTimeInDays,
+            boolean providesInstallation,
+            boolean providesCustomWork,
+            int[] cityIds,
+            int[] specialtyIds,
+            int reliabilityScore) {
+
+        Entry withStatus(SupplierStatus newStatus) {
+            return new Entry(supplierId, newStatus, supplierType, woodTypes, leadTimeInDays, providesInstallation,
+                    providesCustomWork, cityIds, specialtyIds, reliabilityScore);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.toto.backend.services.payments;
+
+import com.toto.backend.entities.enums.PaymentMethod;
+
+import java.time.LocalDateTime;
+
+/**
+ * One payment to post to the ledger, e.g. a line of an Easy Paisa or Jazz Cash settlement file.
+ * The reference is the provider's transaction ID; receivedAt defaults to the posting time.
+ */
+public record PaymentPosting(
+        Long orderId,
+        double amount,
+        PaymentMethod paymentMethod,
+        String reference,
+        LocalDateTime receivedAt) {
+}
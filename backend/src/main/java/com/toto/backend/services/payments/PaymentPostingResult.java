@@ -0,0 +1,13 @@
+package com.toto.backend.services.payments;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch payment posting: how many payments were appended to the ledger and which were rejected.
+ */
+public record PaymentPostingResult(long posted, List<RejectedPayment> rejected) {
+
+    public boolean hasRejections() {
+        return !rejected.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package com.toto.backend.services.payments;
+
+/**
+ * A payment that was not posted and why.
+ */
+public record RejectedPayment(PaymentPosting payment, String reason) {
+}
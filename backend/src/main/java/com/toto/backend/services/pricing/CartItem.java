@@ -0,0 +1,7 @@
+package com.toto.backend.services.pricing;
+
+/**
+ * One line of a cart to quote: a furniture item and how many of it.
+ */
+public record CartItem(Long furnitureId, int quantity) {
+}
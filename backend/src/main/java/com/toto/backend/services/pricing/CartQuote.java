@@ -0,0 +1,18 @@
+package com.toto.backend.services.pricing;
+
+import java.util.List;
+
+/**
+ * Quote for a cart: its priced lines in cart order, the supplier bulk discounts earned on them, and the IDs of
+ * requested items that do not exist, which are left out of the totals.
+ */
+public record CartQuote(
+        List<QuoteLine> lines,
+        List<Long> unknownFurnitureIds,
+        double linesTotal,
+        double bulkDiscount) {
+
+    public double total() {
+        return linesTotal - bulkDiscount;
+    }
+}
@@ -0,0 +1,18 @@
+package com.toto.backend.services.pricing;
+
+/**
+ * Price of one order line as of a furniture version: the item's cost with its subtype options, and the discount rate
+ * its furniture type earns. Supplier bulk discounts are order-level and not part of the line.
+ */
+public record LinePrice(
+        Long furnitureId,
+        Long furnitureVersion,
+        Long supplierId,
+        double listPrice,
+        double cost,
+        double discountRate) {
+
+    public double netPrice() {
+        return cost * (1 - discountRate);
+    }
+}
@@ -0,0 +1,19 @@
+package com.toto.backend.services.pricing;
+
+import java.util.List;
+
+/**
+ * Full price of an order: its priced lines, the supplier bulk discounts earned on them and the delivery and
+ * installation charges.
+ */
+public record OrderPricing(
+        List<LinePrice> lines,
+        double linesTotal,
+        double bulkDiscount,
+        double deliveryCharges,
+        double installationCharges) {
+
+    public double total() {
+        return linesTotal - bulkDiscount + deliveryCharges + installationCharges;
+    }
+}
@@ -0,0 +1,11 @@
+package com.toto.backend.services.pricing;
+
+/**
+ * A priced cart line: the item's unit price and the quantity quoted.
+ */
+public record QuoteLine(LinePrice price, int quantity) {
+
+    public double lineTotal() {
+        return price.netPrice() * quantity;
+    }
+}
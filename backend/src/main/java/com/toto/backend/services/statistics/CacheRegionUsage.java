@@ -0,0 +1,19 @@
+package com.toto.backend.services.statistics;
+
+/**
+ * Hit and miss counters of one second-level or query cache region since startup or the last reset.
+ */
+public record CacheRegionUsage(
+        String region,
+        long hits,
+        long misses,
+        long puts) {
+
+    /**
+     * Fraction of lookups served from the region, or 0 when it has not been read yet.
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
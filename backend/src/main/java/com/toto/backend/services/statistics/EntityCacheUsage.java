@@ -0,0 +1,22 @@
+package com.toto.backend.services.statistics;
+
+/**
+ * Counters of one service-level entity cache since startup.
+ * Loads include background refreshes; evictions count entries dropped for size or age, not by invalidation.
+ */
+public record EntityCacheUsage(
+        String cache,
+        long size,
+        long hits,
+        long misses,
+        long loads,
+        long evictions) {
+
+    /**
+     * Fraction of lookups served from memory, or 0 when the cache has not been read yet.
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
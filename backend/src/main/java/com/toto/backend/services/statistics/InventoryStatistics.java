@@ -0,0 +1,31 @@
+package com.toto.backend.services.statistics;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.enums.WoodType;
+import jakarta.persistence.DiscriminatorValue;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Snapshot of catalog counts: in total, per furniture type (keyed by discriminator value, e.g. CHAIR),
+ * per wood type and per supplier ID. Items without a wood type or supplier only count towards the total.
+ */
+public record InventoryStatistics(
+        long totalItems,
+        Map<String, Long> countsByType,
+        Map<WoodType, Long> countsByWoodType,
+        Map<Long, Long> countsBySupplier,
+        Instant computedAt) {
+
+    /**
+     * Number of items of the given furniture type, e.g. countOf(Chair.class).
+     */
+    public long countOf(Class<? extends Furniture> type) {
+        DiscriminatorValue discriminator = type.getAnnotation(DiscriminatorValue.class);
+        if (discriminator == null) {
+            throw new IllegalArgumentException("Not a concrete furniture type: " + type.getName());
+        }
+        return countsByType.getOrDefault(discriminator.value(), 0L);
+    }
+}
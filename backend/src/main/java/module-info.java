@@ -1,6 +1,7 @@
 open module com.toto.backend {
     requires jakarta.persistence;
     requires spring.context;
+    requires spring.core;
     requires spring.boot;
     requires spring.data.jpa;
     requires spring.beans;
@@ -11,12 +12,25 @@ open module com.toto.backend {
     requires spring.boot.autoconfigure;
     requires org.hibernate.orm.core;
     requires spring.aop;
+    requires spring.jdbc;
+    requires java.sql;
+    requires java.naming;
+    requires org.postgresql.jdbc;
+    requires com.github.benmanes.caffeine;
 
     // Export your packages so the UI module can access them
     exports com.toto.backend.entities;
     exports com.toto.backend.services;
     exports com.toto.backend.services.interfaces;
+    exports com.toto.backend.services.batch;
+    exports com.toto.backend.services.cache;
+    exports com.toto.backend.services.imports;
+    exports com.toto.backend.services.matching;
+    exports com.toto.backend.services.payments;
+    exports com.toto.backend.services.pricing;
+    exports com.toto.backend.services.statistics;
     exports com.toto.backend.repositories;
+    exports com.toto.backend.repositories.projections;
     exports com.toto.backend.entities.enums;
 
     // Open all your entity classes for reflectionwhy does the current system n
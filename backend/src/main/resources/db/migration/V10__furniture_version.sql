@@ -0,0 +1,3 @@
+-- Optimistic-lock version on the furniture root row; Hibernate bumps it on every change to the item or its subtype row.
+-- Order pricing caches each line's computed price by (furniture id, version), so a bump is what invalidates the cache.
+ALTER TABLE furniture ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,30 @@
+-- One row per installment of an order's payment plan, so due and overdue installments are an index range scan
+-- instead of a walk over every installment order. Rows are generated when OrderService creates a plan.
+CREATE SEQUENCE order_installments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_installments (
+    id                 bigint           NOT NULL PRIMARY KEY,
+    order_id           bigint           NOT NULL REFERENCES orders ON DELETE CASCADE,
+    installment_number integer          NOT NULL,
+    due_date           date             NOT NULL,
+    amount             double precision NOT NULL,
+    status             varchar(20)      NOT NULL CHECK (status IN ('PENDING', 'PAID')),
+    paid_date          timestamp(6),
+    CONSTRAINT uk_order_installments_number UNIQUE (order_id, installment_number)
+);
+
+CREATE INDEX idx_order_installments_status_due ON order_installments (status, due_date, id);
+
+-- Materialize the plans that already exist: monthly from the order date; fully paid orders have every installment paid
+INSERT INTO order_installments (id, order_id, installment_number, due_date, amount, status)
+SELECT nextval('order_installments_seq'),
+       o.id,
+       n,
+       CAST(o.order_date AS date) + make_interval(months => n),
+       o.monthly_installment_amount,
+       CASE WHEN o.payment_status = 'COMPLETED' THEN 'PAID' ELSE 'PENDING' END
+FROM orders o
+         CROSS JOIN LATERAL generate_series(1, o.installment_months) AS n
+WHERE o.payment_plan = 'INSTALLMENTS'
+  AND o.installment_months > 0
+  AND o.monthly_installment_amount IS NOT NULL;
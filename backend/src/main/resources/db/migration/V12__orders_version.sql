@@ -0,0 +1,3 @@
+-- Optimistic-lock version on orders, bumped by Hibernate on entity updates and by OrderService's bulk UPDATEs,
+-- so a payment recorded in SQL cannot be overwritten by a stale copy of the order.
+ALTER TABLE orders ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,37 @@
+-- Append-only payment ledger. Posting a payment is a plain INSERT that never touches the order row; the order's
+-- advance payment, remaining payment and payment status are a snapshot compacted from the ledger by OrderService.
+CREATE SEQUENCE payments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE payments (
+    id             bigint           NOT NULL PRIMARY KEY,
+    order_id       bigint           NOT NULL REFERENCES orders ON DELETE CASCADE,
+    amount         double precision NOT NULL CHECK (amount > 0),
+    payment_method varchar(255)     NOT NULL
+        CHECK (payment_method IN ('CASH', 'BANK_TRANSFER', 'EASY_PAISA', 'JAZZ_CASH', 'POST_DATED_CHEQUE')),
+    -- Transaction ID from the payment provider or settlement file; a provider never reports the same one twice
+    reference      varchar(100),
+    received_at    timestamp(6)     NOT NULL,
+    recorded_at    timestamp(6)     NOT NULL,
+    CONSTRAINT uk_payments_method_reference UNIQUE (payment_method, reference)
+);
+
+-- An order's paid amount and running balance are read from this index alone
+CREATE INDEX idx_payments_order ON payments (order_id, received_at, id) INCLUDE (amount);
+-- Compaction finds the orders with payments recorded since its previous run
+CREATE INDEX idx_payments_recorded_at ON payments (recorded_at);
+
+-- Ledger rows are never changed; corrections are posted as new payments
+CREATE FUNCTION payments_append_only() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'payments is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER payments_no_update BEFORE UPDATE ON payments
+    FOR EACH ROW EXECUTE FUNCTION payments_append_only();
+
+-- Opening balance: what each order has been paid so far becomes its first ledger entry
+INSERT INTO payments (id, order_id, amount, payment_method, received_at, recorded_at)
+SELECT nextval('payments_seq'), o.id, o.advance_payment, o.payment_method, o.order_date, now()
+FROM orders o
+WHERE o.advance_payment > 0;
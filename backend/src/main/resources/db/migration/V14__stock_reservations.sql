@@ -0,0 +1,17 @@
+-- Units on hand that are not reserved by an open order; NULL means the item is not stock-tracked (made to order).
+-- The CHECK is the last line of defence against overselling: a reservation never takes the count below zero.
+ALTER TABLE furniture ADD COLUMN stock_quantity integer CHECK (stock_quantity >= 0);
+
+-- Units of a furniture item held by an open order, from checkout until it ships or is cancelled
+CREATE SEQUENCE stock_reservations_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE stock_reservations (
+    id           bigint       NOT NULL PRIMARY KEY,
+    order_id     bigint       NOT NULL REFERENCES orders ON DELETE CASCADE,
+    furniture_id bigint       NOT NULL REFERENCES furniture,
+    quantity     integer      NOT NULL CHECK (quantity > 0),
+    reserved_at  timestamp(6) NOT NULL,
+    CONSTRAINT uk_stock_reservations_order_furniture UNIQUE (order_id, furniture_id)
+);
+
+CREATE INDEX idx_stock_reservations_furniture ON stock_reservations (furniture_id);
@@ -0,0 +1,4 @@
+-- Edits of an order's advance payment are posted to the ledger as corrections for the difference, so refunds and
+-- reductions are negative entries. Only empty entries are still rejected.
+ALTER TABLE payments DROP CONSTRAINT payments_amount_check;
+ALTER TABLE payments ADD CONSTRAINT payments_amount_check CHECK (amount <> 0);
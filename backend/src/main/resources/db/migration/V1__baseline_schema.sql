@@ -0,0 +1,182 @@
+-- Baseline schema, matching what Hibernate generated with ddl-auto before migrations were introduced.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE SEQUENCE customer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE furniture_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE suppliers_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE suppliers (
+    id                         bigint       NOT NULL PRIMARY KEY,
+    company_name               varchar(255) NOT NULL,
+    owner_name                 varchar(255) NOT NULL,
+    contact_person             varchar(255) NOT NULL,
+    email                      varchar(255) UNIQUE,
+    primary_phone              varchar(255) NOT NULL,
+    secondary_phone            varchar(255),
+    city                       varchar(255) NOT NULL,
+    area                       varchar(255) NOT NULL,
+    complete_address           varchar(255) NOT NULL,
+    ntn_number                 varchar(13),
+    cnic_number                varchar(15),
+    supplier_type              varchar(255) NOT NULL
+        CHECK (supplier_type IN ('MANUFACTURER', 'WHOLESALER', 'ARTISAN', 'IMPORTER')),
+    status                     varchar(255) NOT NULL
+        CHECK (status IN ('ACTIVE', 'ON_HOLD', 'UNDER_REVIEW', 'SUSPENDED', 'TERMINATED')),
+    minimum_order_amount       float(53)    NOT NULL,
+    standard_lead_time_in_days integer,
+    bulk_order_discount_rate   float(53)    NOT NULL,
+    provides_custom_work       boolean      NOT NULL,
+    provides_installation      boolean      NOT NULL,
+    payment_terms              text,
+    preferred_payment_method   varchar(255)
+        CHECK (preferred_payment_method IN ('CASH', 'BANK_TRANSFER', 'EASY_PAISA', 'JAZZ_CASH', 'POST_DATED_CHEQUE'))
+);
+
+CREATE TABLE supplier_specialties (
+    supplier_id bigint NOT NULL REFERENCES suppliers,
+    specialties varchar(255)
+);
+
+CREATE TABLE supplier_wood_types (
+    supplier_id        bigint NOT NULL REFERENCES suppliers,
+    wood_types_offered smallint CHECK (wood_types_offered BETWEEN 0 AND 11)
+);
+
+CREATE TABLE supplier_service_cities (
+    supplier_id    bigint NOT NULL REFERENCES suppliers,
+    service_cities varchar(255)
+);
+
+CREATE TABLE customer (
+    id                       bigint       NOT NULL PRIMARY KEY,
+    first_name               varchar(255) NOT NULL,
+    last_name                varchar(255) NOT NULL,
+    primary_phone            varchar(255) NOT NULL,
+    secondary_phone          varchar(255),
+    cnic                     varchar(13),
+    city                     varchar(255) NOT NULL,
+    area                     varchar(255),
+    complete_address         text,
+    registration_date        timestamp(6) NOT NULL,
+    status                   varchar(255)
+        CHECK (status IN ('ACTIVE', 'INACTIVE', 'BLOCKED')),
+    customer_type            varchar(255)
+        CHECK (customer_type IN ('VIP', 'CORPORATE', 'WHOLESALE', 'FIRST_TIME', 'REGULAR')),
+    preferred_payment_method varchar(255)
+        CHECK (preferred_payment_method IN ('CASH', 'BANK_TRANSFER', 'EASY_PAISA', 'JAZZ_CASH', 'POST_DATED_CHEQUE')),
+    marketing_consent        boolean      NOT NULL,
+    special_notes            varchar(255),
+    referral_source          varchar(255)
+);
+
+CREATE TABLE furniture (
+    id           bigint    NOT NULL PRIMARY KEY,
+    name         varchar(255),
+    price        float(53) NOT NULL,
+    material     varchar(255),
+    manufacturer varchar(255),
+    wood_type    varchar(255)
+        CHECK (wood_type IN ('SHEESHAM', 'DEODAR', 'MANGO', 'ACACIA', 'MULBERRY', 'ROSEWOOD', 'WALNUT', 'TEAK', 'MDF',
+                             'LAMINATE', 'OAK', 'OTHER')),
+    supplier_id  bigint REFERENCES suppliers
+);
+
+CREATE TABLE chairs (
+    id               bigint  NOT NULL PRIMARY KEY REFERENCES furniture,
+    seating_capacity integer NOT NULL,
+    has_armrests     boolean NOT NULL,
+    chair_style      varchar(255),
+    is_adjustable    boolean NOT NULL,
+    has_wheels       boolean NOT NULL
+);
+
+CREATE TABLE beds (
+    id                  bigint  NOT NULL PRIMARY KEY REFERENCES furniture,
+    size                varchar(255),
+    has_headboard       boolean NOT NULL,
+    has_footboard       boolean NOT NULL,
+    has_storage_drawers boolean NOT NULL,
+    mattress_type       varchar(255),
+    is_adjustable       boolean NOT NULL
+);
+
+CREATE TABLE sofas (
+    id                 bigint  NOT NULL PRIMARY KEY REFERENCES furniture,
+    seating_capacity   integer NOT NULL,
+    is_convertible     boolean NOT NULL,
+    upholstery_type    varchar(255),
+    number_of_cushions integer NOT NULL,
+    has_recliners      boolean NOT NULL
+);
+
+CREATE TABLE tables (
+    id               bigint    NOT NULL PRIMARY KEY REFERENCES furniture,
+    shape            varchar(255),
+    seating_capacity integer   NOT NULL,
+    is_extendable    boolean   NOT NULL,
+    length           float(53) NOT NULL,
+    width            float(53) NOT NULL,
+    height           float(53) NOT NULL,
+    has_glass_top    boolean   NOT NULL
+);
+
+CREATE TABLE misc_furniture (
+    id          bigint NOT NULL PRIMARY KEY REFERENCES furniture,
+    category    varchar(255),
+    description varchar(255)
+);
+
+CREATE TABLE misc_furniture_attributes (
+    misc_furniture_id bigint       NOT NULL REFERENCES misc_furniture,
+    attribute_name    varchar(255) NOT NULL,
+    attribute_value   varchar(255),
+    PRIMARY KEY (misc_furniture_id, attribute_name)
+);
+
+CREATE TABLE misc_furniture_price_modifiers (
+    misc_furniture_id bigint       NOT NULL REFERENCES misc_furniture,
+    modifier_name     varchar(255) NOT NULL,
+    modifier_value    float(53),
+    PRIMARY KEY (misc_furniture_id, modifier_name)
+);
+
+CREATE TABLE orders (
+    id                         bigint       NOT NULL PRIMARY KEY,
+    customer_id                bigint       NOT NULL REFERENCES customer,
+    order_date                 timestamp(6) NOT NULL,
+    status                     varchar(255) NOT NULL
+        CHECK (status IN ('PENDING', 'CONFIRMED', 'PROCESSING', 'SHIPPED', 'DELIVERED', 'CANCELLED')),
+    payment_method             varchar(255) NOT NULL
+        CHECK (payment_method IN ('CASH', 'BANK_TRANSFER', 'EASY_PAISA', 'JAZZ_CASH', 'POST_DATED_CHEQUE')),
+    payment_plan               varchar(255) NOT NULL
+        CHECK (payment_plan IN ('FULL_PAYMENT', 'INSTALLMENTS', 'ADVANCE_PAYMENT', 'LEASE_TO_OWN')),
+    payment_status             varchar(255) NOT NULL
+        CHECK (payment_status IN ('PENDING', 'PARTIAL', 'ADVANCE_PAID', 'COMPLETED', 'INSTALLMENTS_ONGOING', 'DEFAULTED')),
+    advance_payment            float(53),
+    remaining_payment          float(53),
+    installment_months         integer,
+    monthly_installment_amount float(53),
+    payment_notes              text,
+    expected_delivery_date     timestamp(6),
+    actual_delivery_date       timestamp(6),
+    delivery_city              varchar(255) NOT NULL,
+    delivery_area              varchar(255),
+    complete_delivery_address  text         NOT NULL,
+    delivery_contact_number    varchar(255),
+    delivery_charges           float(53),
+    delivery_notes             varchar(255),
+    requires_assembly          boolean      NOT NULL,
+    requires_installation      boolean      NOT NULL,
+    installation_charges       float(53),
+    installation_date          timestamp(6),
+    installation_notes         text,
+    special_instructions       text,
+    sales_person               varchar(255),
+    total_amount               float(53)
+);
+
+CREATE TABLE order_items (
+    order_id     bigint NOT NULL REFERENCES orders,
+    furniture_id bigint NOT NULL REFERENCES furniture
+);
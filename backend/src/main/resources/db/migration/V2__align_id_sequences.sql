@@ -0,0 +1,20 @@
+-- Entities moved from IDENTITY columns to pooled sequences (allocation size 50).
+-- Databases created by ddl-auto may lack the sequences or have them behind the existing rows,
+-- so (re)create them and move each one past MAX(id). The pooled optimizer hands out (value - 49 .. value],
+-- hence the + 50.
+
+CREATE SEQUENCE IF NOT EXISTS customer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS furniture_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS suppliers_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('customer_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM customer), false);
+SELECT setval('furniture_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM furniture), false);
+SELECT setval('orders_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM orders), false);
+SELECT setval('suppliers_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM suppliers), false);
+
+-- IDs are always supplied by Hibernate now; drop the legacy identity defaults where ddl-auto created them
+ALTER TABLE customer ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE furniture ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE suppliers ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,60 @@
+-- Indexes backing the repository finders. Spring Data renders IgnoreCase as upper(column),
+-- so case-insensitive lookups are indexed on upper(...) expressions.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- orders
+CREATE INDEX IF NOT EXISTS idx_orders_status ON orders (status);
+CREATE INDEX IF NOT EXISTS idx_orders_order_date_id ON orders (order_date, id);
+CREATE INDEX IF NOT EXISTS idx_orders_customer_status ON orders (customer_id, status);
+CREATE INDEX IF NOT EXISTS idx_orders_payment_status ON orders (payment_status);
+CREATE INDEX IF NOT EXISTS idx_orders_expected_delivery_open ON orders (expected_delivery_date)
+    WHERE status <> 'DELIVERED';
+CREATE INDEX IF NOT EXISTS idx_orders_delivery_city ON orders (upper(delivery_city));
+CREATE INDEX IF NOT EXISTS idx_orders_delivery_area_trgm ON orders USING gin (upper(delivery_area) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_sales_person_trgm ON orders USING gin (upper(sales_person) gin_trgm_ops);
+
+-- order_items has no primary key; index both join directions
+CREATE INDEX IF NOT EXISTS idx_order_items_order ON order_items (order_id);
+CREATE INDEX IF NOT EXISTS idx_order_items_furniture ON order_items (furniture_id);
+
+-- furniture
+CREATE INDEX IF NOT EXISTS idx_furniture_supplier ON furniture (supplier_id);
+CREATE INDEX IF NOT EXISTS idx_furniture_price ON furniture (price);
+CREATE INDEX IF NOT EXISTS idx_furniture_wood_type ON furniture (wood_type);
+CREATE INDEX IF NOT EXISTS idx_furniture_name_trgm ON furniture USING gin (upper(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_furniture_manufacturer_trgm ON furniture USING gin (upper(manufacturer) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_furniture_material_trgm ON furniture USING gin (upper(material) gin_trgm_ops);
+
+-- Subtype attributes such as size, shape, chair_style and upholstery_type have a handful of distinct values,
+-- where a trigram index would not beat a scan of the subtype table, so they are left unindexed.
+CREATE INDEX IF NOT EXISTS idx_misc_furniture_category_trgm ON misc_furniture USING gin (upper(category) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_misc_furniture_description_trgm ON misc_furniture USING gin (upper(description) gin_trgm_ops);
+
+-- customer
+CREATE INDEX IF NOT EXISTS idx_customer_city_type ON customer (upper(city), customer_type);
+CREATE INDEX IF NOT EXISTS idx_customer_status ON customer (status);
+CREATE INDEX IF NOT EXISTS idx_customer_customer_type ON customer (customer_type);
+CREATE INDEX IF NOT EXISTS idx_customer_registration_date ON customer (registration_date);
+CREATE INDEX IF NOT EXISTS idx_customer_primary_phone ON customer (primary_phone);
+CREATE INDEX IF NOT EXISTS idx_customer_cnic ON customer (cnic);
+CREATE INDEX IF NOT EXISTS idx_customer_first_name_trgm ON customer USING gin (upper(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_last_name_trgm ON customer USING gin (upper(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_area_trgm ON customer USING gin (upper(area) gin_trgm_ops);
+
+-- suppliers
+CREATE INDEX IF NOT EXISTS idx_suppliers_status ON suppliers (status);
+CREATE INDEX IF NOT EXISTS idx_suppliers_city ON suppliers (city);
+CREATE INDEX IF NOT EXISTS idx_suppliers_city_type ON suppliers (upper(city), supplier_type);
+CREATE INDEX IF NOT EXISTS idx_suppliers_company_name_trgm ON suppliers USING gin (upper(company_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_suppliers_owner_name_trgm ON suppliers USING gin (upper(owner_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_suppliers_contact_person_trgm ON suppliers USING gin (upper(contact_person) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_suppliers_area_trgm ON suppliers USING gin (upper(area) gin_trgm_ops);
+
+-- supplier element collections are looked up by value and joined back by supplier_id
+CREATE INDEX IF NOT EXISTS idx_supplier_wood_types ON supplier_wood_types (wood_types_offered, supplier_id);
+CREATE INDEX IF NOT EXISTS idx_supplier_service_cities ON supplier_service_cities (lower(service_cities), supplier_id);
+CREATE INDEX IF NOT EXISTS idx_supplier_specialties_trgm ON supplier_specialties USING gin (specialties gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_supplier_specialties_supplier ON supplier_specialties (supplier_id);
+CREATE INDEX IF NOT EXISTS idx_supplier_service_cities_supplier ON supplier_service_cities (supplier_id);
+CREATE INDEX IF NOT EXISTS idx_supplier_wood_types_supplier ON supplier_wood_types (supplier_id);
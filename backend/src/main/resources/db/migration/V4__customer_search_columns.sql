@@ -0,0 +1,9 @@
+-- Normalized, database-maintained search columns for customer lookups at the counter.
+-- Both are trigram indexed, so substring and fuzzy matches avoid a sequential scan.
+
+ALTER TABLE customer
+    ADD COLUMN full_name_search text GENERATED ALWAYS AS (lower(first_name || ' ' || last_name)) STORED,
+    ADD COLUMN phone_search text GENERATED ALWAYS AS (primary_phone || coalesce(' ' || secondary_phone, '')) STORED;
+
+CREATE INDEX idx_customer_full_name_search_trgm ON customer USING gin (full_name_search gin_trgm_ops);
+CREATE INDEX idx_customer_phone_search_trgm ON customer USING gin (phone_search gin_trgm_ops);
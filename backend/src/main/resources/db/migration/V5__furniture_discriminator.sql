@@ -0,0 +1,17 @@
+-- Physical discriminator for the JOINED Furniture hierarchy.
+-- Without it Hibernate resolves the concrete type with a CASE over outer joins to every subtype table;
+-- with it, type checks and cross-type summary searches read the furniture table alone.
+
+ALTER TABLE furniture ADD COLUMN furniture_type varchar(31);
+
+UPDATE furniture f SET furniture_type = 'CHAIR' FROM chairs c WHERE c.id = f.id;
+UPDATE furniture f SET furniture_type = 'BED' FROM beds b WHERE b.id = f.id;
+UPDATE furniture f SET furniture_type = 'SOFA' FROM sofas s WHERE s.id = f.id;
+UPDATE furniture f SET furniture_type = 'TABLES' FROM tables t WHERE t.id = f.id;
+UPDATE furniture f SET furniture_type = 'MISC' FROM misc_furniture m WHERE m.id = f.id;
+
+ALTER TABLE furniture
+    ALTER COLUMN furniture_type SET NOT NULL,
+    ADD CONSTRAINT furniture_type_check CHECK (furniture_type IN ('CHAIR', 'BED', 'SOFA', 'TABLES', 'MISC'));
+
+CREATE INDEX idx_furniture_type_price ON furniture (furniture_type, price);
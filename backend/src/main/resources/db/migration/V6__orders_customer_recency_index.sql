@@ -0,0 +1,3 @@
+-- Serves "has this customer ordered since X" probes (NOT EXISTS anti-joins and latest-order lookups)
+-- straight from the index, without visiting the customer's older orders.
+CREATE INDEX IF NOT EXISTS idx_orders_customer_order_date ON orders (customer_id, order_date);
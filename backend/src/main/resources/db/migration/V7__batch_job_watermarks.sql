@@ -0,0 +1,5 @@
+-- Start time of the last completed run of each incremental batch job; the next run only revisits rows changed since.
+CREATE TABLE batch_job_watermark (
+    job_name        varchar(100) NOT NULL PRIMARY KEY,
+    last_started_at timestamp(6) NOT NULL
+);
@@ -0,0 +1,21 @@
+-- Per-customer order statistics kept on the customer row, so loyalty, VIP and inactivity checks read one row
+-- instead of aggregating the customer's orders. OrderService refreshes them on every order write.
+ALTER TABLE customer
+    ADD COLUMN order_count     integer          NOT NULL DEFAULT 0,
+    ADD COLUMN last_order_date timestamp(6),
+    ADD COLUMN lifetime_value  double precision NOT NULL DEFAULT 0;
+
+UPDATE customer c
+SET order_count     = s.order_count,
+    last_order_date = s.last_order_date,
+    lifetime_value  = s.lifetime_value
+FROM (SELECT customer_id,
+             count(*)                                                      AS order_count,
+             max(order_date)                                               AS last_order_date,
+             coalesce(sum(total_amount) FILTER (WHERE status <> 'CANCELLED'), 0) AS lifetime_value
+      FROM orders
+      GROUP BY customer_id) s
+WHERE s.customer_id = c.id;
+
+CREATE INDEX IF NOT EXISTS idx_customer_order_count ON customer (order_count);
+CREATE INDEX IF NOT EXISTS idx_customer_last_order_date ON customer (last_order_date);
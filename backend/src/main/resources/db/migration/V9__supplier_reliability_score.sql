@@ -0,0 +1,27 @@
+-- Reliability score stored on the supplier row, so "most reliable suppliers for X" is a sorted index read.
+-- SupplierService keeps it current on every save; the backfill mirrors SupplierService.calculateReliabilityScore.
+ALTER TABLE suppliers ADD COLUMN reliability_score integer NOT NULL DEFAULT 0;
+
+UPDATE suppliers s
+SET reliability_score =
+        CASE
+            WHEN s.standard_lead_time_in_days IS NULL THEN 0
+            WHEN s.standard_lead_time_in_days <= 7 THEN 20
+            WHEN s.standard_lead_time_in_days <= 14 THEN 15
+            WHEN s.standard_lead_time_in_days <= 30 THEN 10
+            ELSE 5
+        END
+        + CASE
+              WHEN s.bulk_order_discount_rate >= 0.15 THEN 15
+              WHEN s.bulk_order_discount_rate >= 0.10 THEN 10
+              WHEN s.bulk_order_discount_rate >= 0.05 THEN 5
+              ELSE 0
+          END
+        + CASE WHEN s.provides_custom_work THEN 10 ELSE 0 END
+        + CASE WHEN s.provides_installation THEN 10 ELSE 0 END
+        + LEAST(15, 3 * (SELECT count(*) FROM supplier_wood_types w WHERE w.supplier_id = s.id))
+        + LEAST(15, 3 * (SELECT count(*) FROM supplier_specialties sp WHERE sp.supplier_id = s.id))
+        + LEAST(15, 3 * (SELECT count(*) FROM supplier_service_cities c WHERE c.supplier_id = s.id));
+
+CREATE INDEX IF NOT EXISTS idx_suppliers_status_reliability ON suppliers (status, reliability_score DESC, id);
+CREATE INDEX IF NOT EXISTS idx_suppliers_reliability ON suppliers (reliability_score DESC, id);
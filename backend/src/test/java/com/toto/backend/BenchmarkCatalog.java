@@ -0,0 +1,56 @@
+package com.toto.backend;
+
+import com.toto.backend.entities.Bed;
+import com.toto.backend.entities.Chair;
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.entities.Sofa;
+import com.toto.backend.entities.Tables;
+import com.toto.backend.entities.enums.WoodType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unsaved furniture catalog shared by the benchmark tests: every furniture type in turn, spread over all wood types
+ * and a range of prices, with the optional fields the pricing rules read filled in.
+ */
+final class BenchmarkCatalog {
+
+    private BenchmarkCatalog() {
+    }
+
+    static List<Furniture> items(int size) {
+        WoodType[] woodTypes = WoodType.values();
+        List<Furniture> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Furniture furniture = switch (i % 5) {
+                case 0 -> {
+                    Chair chair = new Chair();
+                    chair.setChairStyle("dining");
+                    chair.setHasArmrests(true);
+                    yield chair;
+                }
+                case 1 -> {
+                    Bed bed = new Bed();
+                    bed.setSize("queen");
+                    yield bed;
+                }
+                case 2 -> new Sofa();
+                case 3 -> new Tables();
+                default -> {
+                    MiscFurniture misc = new MiscFurniture();
+                    misc.addPriceModifier("polish", 10.0);
+                    yield misc;
+                }
+            };
+            furniture.setName("Benchmark item " + i);
+            furniture.setPrice(50 + (i % 1000));
+            furniture.setMaterial("wood");
+            furniture.setManufacturer("Benchmark");
+            furniture.setWoodType(woodTypes[i % woodTypes.length]);
+            catalog.add(furniture);
+        }
+        return catalog;
+    }
+}
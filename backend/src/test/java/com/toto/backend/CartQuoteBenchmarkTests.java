@@ -0,0 +1,116 @@
+package com.toto.backend;
+
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Supplier;
+import com.toto.backend.entities.enums.SupplierType;
+import com.toto.backend.services.interfaces.IFurnitureService;
+import com.toto.backend.services.interfaces.IOrderPricingService;
+import com.toto.backend.services.interfaces.ISupplierService;
+import com.toto.backend.services.pricing.CartItem;
+import com.toto.backend.services.pricing.CartQuote;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures a 500-line cart quote over 20 suppliers against the 50 ms target, with the line price cache warm.
+ * The catalog is committed so line prices are cached after the first quote, and removed afterwards.
+ * Disabled by default; run with: mvn test -Dtest=CartQuoteBenchmarkTests -Dbenchmark=true
+ */
+@SpringBootTest
+@ActiveProfiles("quiet")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CartQuoteBenchmarkTests {
+
+    private static final int CART_LINES = 500;
+    private static final int SUPPLIERS = 20;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+    private static final double TARGET_MILLIS = 50;
+
+    @Autowired
+    private IOrderPricingService orderPricingService;
+
+    @Autowired
+    private IFurnitureService furnitureService;
+
+    @Autowired
+    private ISupplierService supplierService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Supplier> suppliers = new ArrayList<>();
+    private final List<Furniture> catalog = new ArrayList<>();
+
+    @BeforeEach
+    void seedCatalog() {
+        for (int i = 0; i < SUPPLIERS; i++) {
+            Supplier supplier = new Supplier();
+            supplier.setCompanyName("Benchmark supplier " + i);
+            supplier.setOwnerName("Owner");
+            supplier.setContactPerson("Contact");
+            supplier.setPrimaryPhone("03000000000");
+            supplier.setCity("Lahore");
+            supplier.setArea("Gulberg");
+            supplier.setCompleteAddress("Benchmark");
+            supplier.setSupplierType(SupplierType.MANUFACTURER);
+            supplier.setMinimumOrderAmount(1000);
+            supplier.setBulkOrderDiscountRate(0.10);
+            suppliers.add(supplierService.save(supplier));
+        }
+
+        List<Furniture> items = BenchmarkCatalog.items(CART_LINES);
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setSupplier(suppliers.get(i % SUPPLIERS));
+        }
+        catalog.addAll(furnitureService.saveAll(items));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        catalog.forEach(item -> furnitureService.deleteById(item.getId()));
+        suppliers.forEach(supplier -> supplierService.deleteById(supplier.getId()));
+    }
+
+    @Test
+    void warmQuoteMeetsTarget() {
+        List<CartItem> cart = catalog.stream().map(item -> new CartItem(item.getId(), 2)).toList();
+        CartQuote first = orderPricingService.quote(cart);
+        assertEquals(CART_LINES, first.lines().size());
+        assertTrue(first.unknownFurnitureIds().isEmpty());
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            orderPricingService.quote(cart);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            CartQuote quote = orderPricingService.quote(cart);
+            samples[i] = System.nanoTime() - start;
+            assertEquals(first.total(), quote.total(), 1e-6);
+            // Every line price is cached, so only the version projection runs
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+        Arrays.sort(samples);
+        double medianMillis = samples[MEASURED_RUNS / 2] / 1_000_000.0;
+        assertTrue(medianMillis < TARGET_MILLIS, () -> String.format(
+                "%d-line quote took %.2f ms, target %.0f ms", CART_LINES, medianMillis, TARGET_MILLIS));
+    }
+}
@@ -0,0 +1,110 @@
+package com.toto.backend;
+
+import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.services.interfaces.IFurnitureService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares cross-type Furniture reads through the JOINED entity mapping (outer joins to every subtype table)
+ * with the single-table summary path backed by the furniture_type discriminator. The summary path must return the
+ * same rows in one statement without loading any entity; the timings of both paths are logged for comparison.
+ * Disabled by default; run with: mvn test -Dtest=FurnitureQueryBenchmarkTests -Dbenchmark=true
+ */
+@SpringBootTest
+@ActiveProfiles("quiet")
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FurnitureQueryBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(FurnitureQueryBenchmarkTests.class);
+
+    private static final int CATALOG_SIZE = 20_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    @Autowired
+    private IFurnitureService furnitureService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seedCatalog() {
+        furnitureService.saveAll(BenchmarkCatalog.items(CATALOG_SIZE));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void priceRange() {
+        compare("price range",
+                () -> furnitureService.findByPriceRange(100, 400).size(),
+                () -> furnitureService.findSummariesByPriceRange(100, 400).size());
+    }
+
+    @Test
+    void woodType() {
+        compare("wood type",
+                () -> furnitureService.findByWoodType(WoodType.TEAK).size(),
+                () -> furnitureService.findSummariesByWoodType(WoodType.TEAK).size());
+    }
+
+    @Test
+    void fullCatalog() {
+        compare("full catalog",
+                () -> furnitureService.findAll().size(),
+                () -> furnitureService.findAllSummaries().size());
+    }
+
+    private void compare(String name, IntSupplier joinedLayout, IntSupplier singleTableLayout) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        int joinedRows = joinedLayout.getAsInt();
+        assertEquals(joinedRows, statistics.getEntityLoadCount());
+        entityManager.clear();
+
+        statistics.clear();
+        assertEquals(joinedRows, singleTableLayout.getAsInt());
+        // Summaries are one projection query over the furniture table: no entity, subtype row or supplier is loaded
+        assertEquals(1, statistics.getPrepareStatementCount(), name);
+        assertEquals(0, statistics.getEntityLoadCount(), name);
+        entityManager.clear();
+
+        double joinedMillis = medianMillis(joinedLayout);
+        double singleTableMillis = medianMillis(singleTableLayout);
+        log.info(String.format("%s: %d rows, single-table summaries %.2f ms, joined entities %.2f ms",
+                name, joinedRows, singleTableMillis, joinedMillis));
+    }
+
+    private double medianMillis(IntSupplier query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.getAsInt();
+            entityManager.clear();
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            query.getAsInt();
+            samples[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_RUNS / 2] / 1_000_000.0;
+    }
+}
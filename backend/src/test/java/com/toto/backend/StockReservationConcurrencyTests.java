@@ -0,0 +1,232 @@
+package com.toto.backend;
+
+import com.toto.backend.entities.Chair;
+import com.toto.backend.entities.Customer;
+import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Order;
+import com.toto.backend.entities.enums.OrderStatus;
+import com.toto.backend.entities.enums.PaymentMethod;
+import com.toto.backend.entities.enums.PaymentStatus;
+import com.toto.backend.entities.enums.WoodType;
+import com.toto.backend.services.interfaces.ICustomerService;
+import com.toto.backend.services.interfaces.IFurnitureService;
+import com.toto.backend.services.interfaces.IOrderService;
+import com.toto.backend.services.interfaces.IStockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent checkouts of the same items: a queued checkout must re-check the stock once the checkout ahead of it
+ * commits, and no mix of checkouts may oversell an item or leak its stock.
+ * Every checkout commits its own transaction, so the tests run against real row locks and clean up after themselves.
+ */
+@SpringBootTest
+@ActiveProfiles("quiet")
+class StockReservationConcurrencyTests {
+
+    private static final int THREADS = 32;
+    private static final int CHECKOUTS = 400;
+
+    @Autowired
+    private IOrderService orderService;
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private IFurnitureService furnitureService;
+
+    @Autowired
+    private IStockService stockService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Furniture> items = new ArrayList<>();
+    private final List<Customer> customers = new ArrayList<>();
+    private final Queue<Long> orderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void seedCustomers() {
+        // Checkouts take their customer round-robin from a pool the size of the thread pool, so most concurrent
+        // checkouts lock different customer rows and mainly contend on the furniture rows under test
+        for (int i = 0; i < THREADS; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("Race");
+            customer.setLastName("Buyer " + i);
+            customer.setPrimaryPhone("03000000000");
+            customer.setCity("Lahore");
+            customers.add(customerService.save(customer));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        orderIds.forEach(orderService::deleteById);
+        items.forEach(item -> furnitureService.deleteById(item.getId()));
+        customers.forEach(customer -> customerService.deleteById(customer.getId()));
+    }
+
+    @Test
+    void queuedCheckoutOfLastUnitIsTurnedAway() throws Exception {
+        Furniture item = seedItems(1, 1).get(0);
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Integer> firstPid = new CompletableFuture<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            orderIds.add(orderService.save(order(customers.get(0), List.of(item))).getId());
+            firstPid.complete(jdbcTemplate.queryForObject("SELECT pg_backend_pid()", Integer.class));
+            reserved.countDown();
+            await(commit);
+        }));
+        assertTrue(reserved.await(30, TimeUnit.SECONDS));
+
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> {
+            Long id = orderService.save(order(customers.get(1), List.of(item))).getId();
+            orderIds.add(id);
+            return id;
+        });
+        awaitBlockedBy(firstPid.get(), second);
+        commit.countDown();
+        first.get(30, TimeUnit.SECONDS);
+
+        ExecutionException turnedAway = assertThrows(ExecutionException.class, () -> second.get(30, TimeUnit.SECONDS));
+        assertTrue(turnedAway.getCause() instanceof IllegalStateException, () -> "Unexpected failure: " + turnedAway);
+        assertEquals(1, orderIds.size());
+        assertEquals(0, stockService.findStockQuantity(item.getId()));
+
+        // Deleting the order returns the unit
+        orderService.deleteById(orderIds.poll());
+        assertEquals(1, stockService.findStockQuantity(item.getId()));
+    }
+
+    @Test
+    void concurrentCheckoutsNeverOversell() throws InterruptedException {
+        int stockPerItem = 25;
+        List<Furniture> catalog = seedItems(4, stockPerItem);
+        Map<Long, AtomicInteger> sold = new ConcurrentHashMap<>();
+        AtomicInteger soldOut = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(CHECKOUTS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < CHECKOUTS; i++) {
+            Customer customer = customers.get(i % THREADS);
+            executor.execute(() -> {
+                try {
+                    // A quarter of the checkouts add a second unit, of another item or the same one again, locking
+                    // one or two rows in one transaction
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    List<Furniture> basket = new ArrayList<>();
+                    basket.add(catalog.get(random.nextInt(catalog.size())));
+                    if (random.nextInt(4) == 0) {
+                        basket.add(catalog.get(random.nextInt(catalog.size())));
+                    }
+                    Order order = orderService.save(order(customer, basket));
+                    orderIds.add(order.getId());
+                    basket.forEach(item -> sold.computeIfAbsent(item.getId(), id -> new AtomicInteger()).incrementAndGet());
+                } catch (IllegalStateException e) {
+                    soldOut.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.MINUTES));
+        executor.shutdown();
+
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        // Every checkout either placed its order or was turned away, and demand far exceeds stock
+        assertEquals(CHECKOUTS, orderIds.size() + soldOut.get());
+        assertTrue(soldOut.get() > 0);
+        for (Furniture item : catalog) {
+            int unitsSold = sold.getOrDefault(item.getId(), new AtomicInteger()).get();
+            // Demand far exceeds stock, so every item sells out exactly
+            assertEquals(stockPerItem, unitsSold);
+            assertEquals(0, stockService.findStockQuantity(item.getId()));
+        }
+
+        // Cancelling returns every reserved unit
+        orderService.transitionOrders(List.copyOf(orderIds), OrderStatus.CANCELLED);
+        for (Furniture item : catalog) {
+            assertEquals(stockPerItem, stockService.findStockQuantity(item.getId()));
+        }
+    }
+
+    private List<Furniture> seedItems(int count, int stock) {
+        List<Furniture> seeded = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Chair chair = new Chair();
+            chair.setName("Race chair " + i);
+            chair.setPrice(100);
+            chair.setChairStyle("dining");
+            chair.setWoodType(WoodType.SHEESHAM);
+            chair.setStockQuantity(stock);
+            seeded.add(furnitureService.save(chair));
+        }
+        items.addAll(seeded);
+        return seeded;
+    }
+
+    // Waits until a checkout is queued on a lock held by the backend of the first; other sessions do not count
+    private void awaitBlockedBy(int blockerPid, CompletableFuture<?> checkout) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity WHERE ? = ANY(pg_blocking_pids(pid))",
+                Integer.class, blockerPid) == 0) {
+            assertTrue(!checkout.isDone() && System.nanoTime() < deadline, "Second checkout never waited for the first");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Order order(Customer customer, List<Furniture> basket) {
+        return Order.builder()
+                .customer(customer)
+                .items(new ArrayList<>(basket))
+                .paymentMethod(PaymentMethod.CASH)
+                .paymentStatus(PaymentStatus.PENDING)
+                .deliveryCity("Lahore")
+                .completeDeliveryAddress("Concurrency test")
+                .build();
+    }
+}
@@ -1,16 +1,18 @@
 package com.toto.ui;
 
 import com.toto.backend.entities.Bed;
+import com.toto.backend.repositories.projections.BedRow;
 import com.toto.backend.entities.enums.WoodType;
 import com.toto.backend.services.interfaces.IBedService;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.util.Callback;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,19 +27,19 @@ public class BedViewController {
     @Autowired
     private IBedService bedService;
 
-    @FXML private TableView<Bed> bedsTable;
-    @FXML private TableColumn<Bed, Long> idColumn;
-    @FXML private TableColumn<Bed, String> nameColumn;
-    @FXML private TableColumn<Bed, Double> priceColumn;
-    @FXML private TableColumn<Bed, String> materialColumn;
-    @FXML private TableColumn<Bed, String> manufacturerColumn;
-    @FXML private TableColumn<Bed, String> sizeColumn;
-    @FXML private TableColumn<Bed, Boolean> hasHeadboardColumn;
-    @FXML private TableColumn<Bed, Boolean> hasFootboardColumn;
-    @FXML private TableColumn<Bed, Boolean> hasStorageDrawersColumn;
-    @FXML private TableColumn<Bed, String> mattressTypeColumn;
-    @FXML private TableColumn<Bed, Boolean> isAdjustableColumn;
-    @FXML private TableColumn<Bed, Void> actionsColumn;
+    @FXML private TableView<BedRow> bedsTable;
+    @FXML private TableColumn<BedRow, Long> idColumn;
+    @FXML private TableColumn<BedRow, String> nameColumn;
+    @FXML private TableColumn<BedRow, Double> priceColumn;
+    @FXML private TableColumn<BedRow, String> materialColumn;
+    @FXML private TableColumn<BedRow, String> manufacturerColumn;
+    @FXML private TableColumn<BedRow, String> sizeColumn;
+    @FXML private TableColumn<BedRow, Boolean> hasHeadboardColumn;
+    @FXML private TableColumn<BedRow, Boolean> hasFootboardColumn;
+    @FXML private TableColumn<BedRow, Boolean> hasStorageDrawersColumn;
+    @FXML private TableColumn<BedRow, String> mattressTypeColumn;
+    @FXML private TableColumn<BedRow, Boolean> isAdjustableColumn;
+    @FXML private TableColumn<BedRow, Void> actionsColumn;
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> filterComboBox;
@@ -47,7 +49,7 @@ public class BedViewController {
     @FXML private Label totalItemsLabel;
     @FXML private Pagination pagination;
 
-    private ObservableList<Bed> bedsList = FXCollections.observableArrayList();
+    private ObservableList<BedRow> bedsList = FXCollections.observableArrayList();
     private static final int ITEMS_PER_PAGE = 10;
 
     @FXML
@@ -61,27 +63,36 @@ public class BedViewController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData -> 
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+
+        nameColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().name()));
+
+        priceColumn.setCellValueFactory(cellData -> 
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+
+        materialColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().material()));
+
+        manufacturerColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
 
         // Bed-specific columns
         sizeColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getSize()));
+            new SimpleStringProperty(cellData.getValue().size()));
 
         hasHeadboardColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasHeadboard()));
+            new SimpleBooleanProperty(cellData.getValue().hasHeadboard()));
 
         hasFootboardColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasFootboard()));
+            new SimpleBooleanProperty(cellData.getValue().hasFootboard()));
 
         hasStorageDrawersColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasStorageDrawers()));
+            new SimpleBooleanProperty(cellData.getValue().hasStorageDrawers()));
 
         mattressTypeColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getMattressType()));
+            new SimpleStringProperty(cellData.getValue().mattressType()));
 
         isAdjustableColumn.setCellValueFactory(cellData -> 
             new SimpleBooleanProperty(cellData.getValue().isAdjustable()));
@@ -91,9 +102,9 @@ public class BedViewController {
     }
 
     private void setupActionsColumn() {
-        Callback<TableColumn<Bed, Void>, TableCell<Bed, Void>> cellFactory = new Callback<>() {
+        Callback<TableColumn<BedRow, Void>, TableCell<BedRow, Void>> cellFactory = new Callback<>() {
             @Override
-            public TableCell<Bed, Void> call(final TableColumn<Bed, Void> param) {
+            public TableCell<BedRow, Void> call(final TableColumn<BedRow, Void> param) {
                 return new TableCell<>() {
                     private final Button editButton = new Button("Edit");
                     private final Button deleteButton = new Button("Delete");
@@ -104,12 +115,12 @@ public class BedViewController {
                         deleteButton.getStyleClass().add("small-button");
 
                         editButton.setOnAction(event -> {
-                            Bed bed = getTableView().getItems().get(getIndex());
+                            BedRow bed = getTableView().getItems().get(getIndex());
                             handleEditBed(bed);
                         });
 
                         deleteButton.setOnAction(event -> {
-                            Bed bed = getTableView().getItems().get(getIndex());
+                            BedRow bed = getTableView().getItems().get(getIndex());
                             handleDeleteBed(bed);
                         });
                     }
@@ -147,7 +158,7 @@ public class BedViewController {
         filterComboBox.setOnAction(e -> applyFilter());
     }
 
-    private TableView<Bed> createPage(int pageIndex) {
+    private TableView<BedRow> createPage(int pageIndex) {
         int fromIndex = pageIndex * ITEMS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ITEMS_PER_PAGE, bedsList.size());
 
@@ -262,15 +273,15 @@ public class BedViewController {
             return;
         }
 
-        List<Bed> allBeds = bedService.findAll();
-        ObservableList<Bed> filteredList = FXCollections.observableArrayList();
+        List<BedRow> allBeds = bedService.findAllRows();
+        ObservableList<BedRow> filteredList = FXCollections.observableArrayList();
 
-        for (Bed bed : allBeds) {
-            if (bed.getName().toLowerCase().contains(searchTerm) ||
-                bed.getManufacturer().toLowerCase().contains(searchTerm) ||
-                bed.getMaterial().toLowerCase().contains(searchTerm) ||
-                bed.getSize().toLowerCase().contains(searchTerm) ||
-                bed.getMattressType().toLowerCase().contains(searchTerm)) {
+        for (BedRow bed : allBeds) {
+            if (bed.name().toLowerCase().contains(searchTerm) ||
+                bed.manufacturer().toLowerCase().contains(searchTerm) ||
+                bed.material().toLowerCase().contains(searchTerm) ||
+                bed.size().toLowerCase().contains(searchTerm) ||
+                bed.mattressType().toLowerCase().contains(searchTerm)) {
                 filteredList.add(bed);
             }
         }
@@ -278,26 +289,26 @@ public class BedViewController {
         updateTableWithData(filteredList);
     }
 
-    private void handleEditBed(Bed bed) {
+    private void handleEditBed(BedRow bed) {
         // This would typically open a dialog to edit the bed
         // For now, we'll just show an alert
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Edit Bed");
         alert.setHeaderText("Edit Bed Feature");
-        alert.setContentText("This feature would open a dialog to edit bed: " + bed.getName());
+        alert.setContentText("This feature would open a dialog to edit bed: " + bed.name());
         alert.showAndWait();
     }
 
-    private void handleDeleteBed(Bed bed) {
+    private void handleDeleteBed(BedRow bed) {
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Confirm Delete");
         confirmDialog.setHeaderText("Delete Bed");
-        confirmDialog.setContentText("Are you sure you want to delete bed: " + bed.getName() + "?");
+        confirmDialog.setContentText("Are you sure you want to delete bed: " + bed.name() + "?");
 
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                bedService.deleteById(bed.getId());
+                bedService.deleteById(bed.id());
                 refreshData();
             } catch (Exception e) {
                 Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -316,15 +327,15 @@ public class BedViewController {
             return;
         }
 
-        List<Bed> allBeds = bedService.findAll();
-        ObservableList<Bed> filteredList = FXCollections.observableArrayList();
+        List<BedRow> allBeds = bedService.findAllRows();
+        ObservableList<BedRow> filteredList = FXCollections.observableArrayList();
 
-        for (Bed bed : allBeds) {
+        for (BedRow bed : allBeds) {
             boolean include = switch (filter) {
-                case "Single", "Double", "Queen", "King" -> bed.getSize().equalsIgnoreCase(filter);
-                case "Has Headboard" -> bed.isHasHeadboard();
-                case "Has Footboard" -> bed.isHasFootboard();
-                case "Has Storage" -> bed.isHasStorageDrawers();
+                case "Single", "Double", "Queen", "King" -> bed.size().equalsIgnoreCase(filter);
+                case "Has Headboard" -> bed.hasHeadboard();
+                case "Has Footboard" -> bed.hasFootboard();
+                case "Has Storage" -> bed.hasStorageDrawers();
                 case "Adjustable" -> bed.isAdjustable();
                 default -> true;
             };
@@ -339,7 +350,7 @@ public class BedViewController {
 
     private void refreshData() {
         try {
-            List<Bed> beds = bedService.findAll();
+            List<BedRow> beds = bedService.findAllRows();
             updateTableWithData(FXCollections.observableArrayList(beds));
         } catch (Exception e) {
             e.printStackTrace();
@@ -351,7 +362,7 @@ public class BedViewController {
         }
     }
 
-    private void updateTableWithData(ObservableList<Bed> beds) {
+    private void updateTableWithData(ObservableList<BedRow> beds) {
         this.bedsList = beds;
 
         int pageCount = (beds.size() + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
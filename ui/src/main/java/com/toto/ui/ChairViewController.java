@@ -1,9 +1,12 @@
 package com.toto.ui;
 
 import com.toto.backend.entities.Chair;
+import com.toto.backend.repositories.projections.ChairRow;
 import com.toto.backend.services.interfaces.IChairService;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,7 +14,6 @@ import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.util.Callback;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -25,18 +27,18 @@ public class ChairViewController {
     @Autowired
     private IChairService chairService;
 
-    @FXML private TableView<Chair> chairsTable;
-    @FXML private TableColumn<Chair, Long> idColumn;
-    @FXML private TableColumn<Chair, String> nameColumn;
-    @FXML private TableColumn<Chair, Double> priceColumn;
-    @FXML private TableColumn<Chair, String> materialColumn;
-    @FXML private TableColumn<Chair, String> manufacturerColumn;
-    @FXML private TableColumn<Chair, Integer> seatingCapacityColumn;
-    @FXML private TableColumn<Chair, Boolean> hasArmrestsColumn;
-    @FXML private TableColumn<Chair, String> chairStyleColumn;
-    @FXML private TableColumn<Chair, Boolean> isAdjustableColumn;
-    @FXML private TableColumn<Chair, Boolean> hasWheelsColumn;
-    @FXML private TableColumn<Chair, Void> actionsColumn;
+    @FXML private TableView<ChairRow> chairsTable;
+    @FXML private TableColumn<ChairRow, Long> idColumn;
+    @FXML private TableColumn<ChairRow, String> nameColumn;
+    @FXML private TableColumn<ChairRow, Double> priceColumn;
+    @FXML private TableColumn<ChairRow, String> materialColumn;
+    @FXML private TableColumn<ChairRow, String> manufacturerColumn;
+    @FXML private TableColumn<ChairRow, Integer> seatingCapacityColumn;
+    @FXML private TableColumn<ChairRow, Boolean> hasArmrestsColumn;
+    @FXML private TableColumn<ChairRow, String> chairStyleColumn;
+    @FXML private TableColumn<ChairRow, Boolean> isAdjustableColumn;
+    @FXML private TableColumn<ChairRow, Boolean> hasWheelsColumn;
+    @FXML private TableColumn<ChairRow, Void> actionsColumn;
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> filterComboBox;
@@ -46,7 +48,7 @@ public class ChairViewController {
     @FXML private Label totalItemsLabel;
     @FXML private Pagination pagination;
 
-    private ObservableList<Chair> chairsList = FXCollections.observableArrayList();
+    private ObservableList<ChairRow> chairsList = FXCollections.observableArrayList();
     private static final int ITEMS_PER_PAGE = 10;
 
     @FXML
@@ -60,36 +62,45 @@ public class ChairViewController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData -> 
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+
+        nameColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().name()));
+
+        priceColumn.setCellValueFactory(cellData -> 
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+
+        materialColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().material()));
+
+        manufacturerColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
 
         // Chair-specific columns
         seatingCapacityColumn.setCellValueFactory(cellData -> 
-            new SimpleIntegerProperty(cellData.getValue().getSeatingCapacity()).asObject());
+            new SimpleIntegerProperty(cellData.getValue().seatingCapacity()).asObject());
 
         hasArmrestsColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasArmrests()));
+            new SimpleBooleanProperty(cellData.getValue().hasArmrests()));
 
         chairStyleColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getChairStyle()));
+            new SimpleStringProperty(cellData.getValue().chairStyle()));
 
         isAdjustableColumn.setCellValueFactory(cellData -> 
             new SimpleBooleanProperty(cellData.getValue().isAdjustable()));
 
         hasWheelsColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasWheels()));
+            new SimpleBooleanProperty(cellData.getValue().hasWheels()));
 
         // Setup actions column with edit and delete buttons
         setupActionsColumn();
     }
 
     private void setupActionsColumn() {
-        Callback<TableColumn<Chair, Void>, TableCell<Chair, Void>> cellFactory = new Callback<>() {
+        Callback<TableColumn<ChairRow, Void>, TableCell<ChairRow, Void>> cellFactory = new Callback<>() {
             @Override
-            public TableCell<Chair, Void> call(final TableColumn<Chair, Void> param) {
+            public TableCell<ChairRow, Void> call(final TableColumn<ChairRow, Void> param) {
                 return new TableCell<>() {
                     private final Button editButton = new Button("Edit");
                     private final Button deleteButton = new Button("Delete");
@@ -100,12 +111,12 @@ public class ChairViewController {
                         deleteButton.getStyleClass().add("small-button");
 
                         editButton.setOnAction(event -> {
-                            Chair chair = getTableView().getItems().get(getIndex());
+                            ChairRow chair = getTableView().getItems().get(getIndex());
                             handleEditChair(chair);
                         });
 
                         deleteButton.setOnAction(event -> {
-                            Chair chair = getTableView().getItems().get(getIndex());
+                            ChairRow chair = getTableView().getItems().get(getIndex());
                             handleDeleteChair(chair);
                         });
                     }
@@ -141,7 +152,7 @@ public class ChairViewController {
         filterComboBox.setOnAction(e -> applyFilter());
     }
 
-    private TableView<Chair> createPage(int pageIndex) {
+    private TableView<ChairRow> createPage(int pageIndex) {
         int fromIndex = pageIndex * ITEMS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ITEMS_PER_PAGE, chairsList.size());
 
@@ -257,14 +268,14 @@ public class ChairViewController {
             return;
         }
 
-        List<Chair> allChairs = chairService.findAll();
-        ObservableList<Chair> filteredList = FXCollections.observableArrayList();
+        List<ChairRow> allChairs = chairService.findAllRows();
+        ObservableList<ChairRow> filteredList = FXCollections.observableArrayList();
 
-        for (Chair chair : allChairs) {
-            if (chair.getName().toLowerCase().contains(searchTerm) ||
-                chair.getManufacturer().toLowerCase().contains(searchTerm) ||
-                chair.getMaterial().toLowerCase().contains(searchTerm) ||
-                chair.getChairStyle().toLowerCase().contains(searchTerm)) {
+        for (ChairRow chair : allChairs) {
+            if (chair.name().toLowerCase().contains(searchTerm) ||
+                chair.manufacturer().toLowerCase().contains(searchTerm) ||
+                chair.material().toLowerCase().contains(searchTerm) ||
+                chair.chairStyle().toLowerCase().contains(searchTerm)) {
                 filteredList.add(chair);
             }
         }
@@ -272,26 +283,26 @@ public class ChairViewController {
         updateTableWithData(filteredList);
     }
 
-    private void handleEditChair(Chair chair) {
+    private void handleEditChair(ChairRow chair) {
         // This would typically open a dialog to edit the chair
         // For now, we'll just show an alert
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Edit Chair");
         alert.setHeaderText("Edit Chair Feature");
-        alert.setContentText("This feature would open a dialog to edit chair: " + chair.getName());
+        alert.setContentText("This feature would open a dialog to edit chair: " + chair.name());
         alert.showAndWait();
     }
 
-    private void handleDeleteChair(Chair chair) {
+    private void handleDeleteChair(ChairRow chair) {
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Confirm Delete");
         confirmDialog.setHeaderText("Delete Chair");
-        confirmDialog.setContentText("Are you sure you want to delete chair: " + chair.getName() + "?");
+        confirmDialog.setContentText("Are you sure you want to delete chair: " + chair.name() + "?");
 
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                chairService.deleteById(chair.getId());
+                chairService.deleteById(chair.id());
                 refreshData();
             } catch (Exception e) {
                 Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -310,17 +321,17 @@ public class ChairViewController {
             return;
         }
 
-        List<Chair> allChairs = chairService.findAll();
-        ObservableList<Chair> filteredList = FXCollections.observableArrayList();
+        List<ChairRow> allChairs = chairService.findAllRows();
+        ObservableList<ChairRow> filteredList = FXCollections.observableArrayList();
 
-        for (Chair chair : allChairs) {
+        for (ChairRow chair : allChairs) {
             boolean include = switch (filter) {
-                case "Has Armrests" -> chair.isHasArmrests();
-                case "No Armrests" -> !chair.isHasArmrests();
+                case "Has Armrests" -> chair.hasArmrests();
+                case "No Armrests" -> !chair.hasArmrests();
                 case "Adjustable" -> chair.isAdjustable();
                 case "Non-Adjustable" -> !chair.isAdjustable();
-                case "With Wheels" -> chair.isHasWheels();
-                case "Without Wheels" -> !chair.isHasWheels();
+                case "With Wheels" -> chair.hasWheels();
+                case "Without Wheels" -> !chair.hasWheels();
                 default -> true;
             };
 
@@ -334,7 +345,7 @@ public class ChairViewController {
 
     private void refreshData() {
         try {
-            List<Chair> chairs = chairService.findAll();
+            List<ChairRow> chairs = chairService.findAllRows();
             updateTableWithData(FXCollections.observableArrayList(chairs));
         } catch (Exception e) {
             e.printStackTrace();
@@ -346,7 +357,7 @@ public class ChairViewController {
         }
     }
 
-    private void updateTableWithData(ObservableList<Chair> chairs) {
+    private void updateTableWithData(ObservableList<ChairRow> chairs) {
         this.chairsList = chairs;
 
         int pageCount = (chairs.size() + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
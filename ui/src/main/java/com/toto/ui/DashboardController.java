@@ -1,22 +1,29 @@
 package com.toto.ui;
 
-import com.toto.backend.entities.Furniture;
+import com.toto.backend.entities.Bed;
+import com.toto.backend.entities.Chair;
+import com.toto.backend.entities.Sofa;
+import com.toto.backend.repositories.projections.FurnitureSummary;
+import com.toto.backend.services.interfaces.IAsyncService;
 import com.toto.backend.services.interfaces.IFurnitureService;
-import com.toto.backend.services.interfaces.IChairService;
-import com.toto.backend.services.interfaces.IBedService;
-import com.toto.backend.services.interfaces.ISofaService;
-import com.toto.backend.services.interfaces.ITablesService;
+import com.toto.backend.services.interfaces.IInventoryStatisticsService;
+import com.toto.backend.services.statistics.InventoryStatistics;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 public class DashboardController {
@@ -25,29 +32,23 @@ public class DashboardController {
     private IFurnitureService furnitureService;
 
     @Autowired
-    private IChairService chairService;
+    private IInventoryStatisticsService inventoryStatisticsService;
 
     @Autowired
-    private IBedService bedService;
-
-    @Autowired
-    private ISofaService sofaService;
-
-    @Autowired
-    private ITablesService tablesService;
+    private IAsyncService asyncService;
 
     @FXML private Label totalFurnitureLabel;
     @FXML private Label chairsCountLabel;
     @FXML private Label bedsCountLabel;
     @FXML private Label sofasCountLabel;
 
-    @FXML private TableView<Furniture> recentItemsTable;
-    @FXML private TableColumn<Furniture, Long> idColumn;
-    @FXML private TableColumn<Furniture, String> nameColumn;
-    @FXML private TableColumn<Furniture, String> typeColumn;
-    @FXML private TableColumn<Furniture, Double> priceColumn;
-    @FXML private TableColumn<Furniture, String> materialColumn;
-    @FXML private TableColumn<Furniture, String> manufacturerColumn;
+    @FXML private TableView<FurnitureSummary> recentItemsTable;
+    @FXML private TableColumn<FurnitureSummary, Long> idColumn;
+    @FXML private TableColumn<FurnitureSummary, String> nameColumn;
+    @FXML private TableColumn<FurnitureSummary, String> typeColumn;
+    @FXML private TableColumn<FurnitureSummary, Double> priceColumn;
+    @FXML private TableColumn<FurnitureSummary, String> materialColumn;
+    @FXML private TableColumn<FurnitureSummary, String> manufacturerColumn;
 
     @FXML private Button addFurnitureButton;
     @FXML private Button generateReportButton;
@@ -60,16 +61,18 @@ public class DashboardController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        typeColumn.setCellValueFactory(cellData -> {
-            Furniture furniture = cellData.getValue();
-            String type = furniture.getClass().getSimpleName();
-            return new SimpleStringProperty(type);
-        });
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData ->
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+        nameColumn.setCellValueFactory(cellData ->
+            new SimpleStringProperty(cellData.getValue().name()));
+        typeColumn.setCellValueFactory(cellData ->
+            new SimpleStringProperty(cellData.getValue().typeName()));
+        priceColumn.setCellValueFactory(cellData ->
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+        materialColumn.setCellValueFactory(cellData ->
+            new SimpleStringProperty(cellData.getValue().material()));
+        manufacturerColumn.setCellValueFactory(cellData ->
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
     }
 
     @FXML
@@ -96,33 +99,48 @@ public class DashboardController {
 
     @FXML
     public void handleRefresh() {
+        // An explicit refresh always recounts, as it did before the counts were cached
+        inventoryStatisticsService.evict();
         refreshData();
     }
 
     private void refreshData() {
-        try {
-            // Update counts
-            List<Furniture> allFurniture = furnitureService.findAll();
-            totalFurnitureLabel.setText(String.valueOf(allFurniture.size()));
-
-            chairsCountLabel.setText(String.valueOf(chairService.findAll().size()));
-            bedsCountLabel.setText(String.valueOf(bedService.findAll().size()));
-            sofasCountLabel.setText(String.valueOf(sofaService.findAll().size()));
-
-            // Get recent items (limited to 10)
-            List<Furniture> recentItems = allFurniture.stream()
-                    .limit(10)
-                    .collect(Collectors.toList());
-
-            ObservableList<Furniture> items = FXCollections.observableArrayList(recentItems);
-            recentItemsTable.setItems(items);
-        } catch (Exception e) {
-            e.printStackTrace();
-            Alert alert = new Alert(Alert.AlertType.ERROR);
-            alert.setTitle("Error");
-            alert.setHeaderText("Data Refresh Error");
-            alert.setContentText("An error occurred while refreshing data: " + e.getMessage());
-            alert.showAndWait();
-        }
+        refreshButton.setDisable(true);
+
+        // The counts and the recent items are independent queries: run them in parallel, off the FX thread
+        CompletableFuture<InventoryStatistics> statistics =
+                asyncService.supply(inventoryStatisticsService::getStatistics);
+        CompletableFuture<List<FurnitureSummary>> recentItems = asyncService.supply(() ->
+                furnitureService.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))).getContent());
+
+        statistics.thenAcceptBothAsync(recentItems, this::showData, Platform::runLater)
+                .whenCompleteAsync((ignored, error) -> {
+                    refreshButton.setDisable(false);
+                    if (error != null) {
+                        showRefreshError(error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error);
+                    }
+                }, Platform::runLater);
+    }
+
+    private void showData(InventoryStatistics statistics, List<FurnitureSummary> recentItems) {
+        // Update counts
+        totalFurnitureLabel.setText(String.valueOf(statistics.totalItems()));
+
+        chairsCountLabel.setText(String.valueOf(statistics.countOf(Chair.class)));
+        bedsCountLabel.setText(String.valueOf(statistics.countOf(Bed.class)));
+        sofasCountLabel.setText(String.valueOf(statistics.countOf(Sofa.class)));
+
+        ObservableList<FurnitureSummary> items = FXCollections.observableArrayList(recentItems);
+        recentItemsTable.setItems(items);
+    }
+
+    private void showRefreshError(Throwable e) {
+        e.printStackTrace();
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText("Data Refresh Error");
+        alert.setContentText("An error occurred while refreshing data: " + e.getMessage());
+        alert.showAndWait();
     }
 }
@@ -1,14 +1,16 @@
 package com.toto.ui;
 
 import com.toto.backend.entities.MiscFurniture;
+import com.toto.backend.repositories.projections.MiscFurnitureRow;
 import com.toto.backend.services.interfaces.IMiscFurnitureService;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.util.Callback;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,15 +25,15 @@ public class MiscFurnitureViewController {
     @Autowired
     private IMiscFurnitureService miscFurnitureService;
 
-    @FXML private TableView<MiscFurniture> miscTable;
-    @FXML private TableColumn<MiscFurniture, Long> idColumn;
-    @FXML private TableColumn<MiscFurniture, String> nameColumn;
-    @FXML private TableColumn<MiscFurniture, Double> priceColumn;
-    @FXML private TableColumn<MiscFurniture, String> materialColumn;
-    @FXML private TableColumn<MiscFurniture, String> manufacturerColumn;
-    @FXML private TableColumn<MiscFurniture, String> categoryColumn;
-    @FXML private TableColumn<MiscFurniture, String> descriptionColumn;
-    @FXML private TableColumn<MiscFurniture, Void> actionsColumn;
+    @FXML private TableView<MiscFurnitureRow> miscTable;
+    @FXML private TableColumn<MiscFurnitureRow, Long> idColumn;
+    @FXML private TableColumn<MiscFurnitureRow, String> nameColumn;
+    @FXML private TableColumn<MiscFurnitureRow, Double> priceColumn;
+    @FXML private TableColumn<MiscFurnitureRow, String> materialColumn;
+    @FXML private TableColumn<MiscFurnitureRow, String> manufacturerColumn;
+    @FXML private TableColumn<MiscFurnitureRow, String> categoryColumn;
+    @FXML private TableColumn<MiscFurnitureRow, String> descriptionColumn;
+    @FXML private TableColumn<MiscFurnitureRow, Void> actionsColumn;
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> filterComboBox;
@@ -41,7 +43,7 @@ public class MiscFurnitureViewController {
     @FXML private Label totalItemsLabel;
     @FXML private Pagination pagination;
 
-    private ObservableList<MiscFurniture> miscList = FXCollections.observableArrayList();
+    private ObservableList<MiscFurnitureRow> miscList = FXCollections.observableArrayList();
     private static final int ITEMS_PER_PAGE = 10;
 
     @FXML
@@ -55,27 +57,36 @@ public class MiscFurnitureViewController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData -> 
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+
+        nameColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().name()));
+
+        priceColumn.setCellValueFactory(cellData -> 
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+
+        materialColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().material()));
+
+        manufacturerColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
 
         // MiscFurniture-specific columns
         categoryColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getCategory()));
+            new SimpleStringProperty(cellData.getValue().category()));
 
         descriptionColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getDescription()));
+            new SimpleStringProperty(cellData.getValue().description()));
 
         // Setup actions column with edit and delete buttons
         setupActionsColumn();
     }
 
     private void setupActionsColumn() {
-        Callback<TableColumn<MiscFurniture, Void>, TableCell<MiscFurniture, Void>> cellFactory = new Callback<>() {
+        Callback<TableColumn<MiscFurnitureRow, Void>, TableCell<MiscFurnitureRow, Void>> cellFactory = new Callback<>() {
             @Override
-            public TableCell<MiscFurniture, Void> call(final TableColumn<MiscFurniture, Void> param) {
+            public TableCell<MiscFurnitureRow, Void> call(final TableColumn<MiscFurnitureRow, Void> param) {
                 return new TableCell<>() {
                     private final Button editButton = new Button("Edit");
                     private final Button deleteButton = new Button("Delete");
@@ -86,12 +97,12 @@ public class MiscFurnitureViewController {
                         deleteButton.getStyleClass().add("small-button");
 
                         editButton.setOnAction(event -> {
-                            MiscFurniture misc = getTableView().getItems().get(getIndex());
+                            MiscFurnitureRow misc = getTableView().getItems().get(getIndex());
                             handleEditMisc(misc);
                         });
 
                         deleteButton.setOnAction(event -> {
-                            MiscFurniture misc = getTableView().getItems().get(getIndex());
+                            MiscFurnitureRow misc = getTableView().getItems().get(getIndex());
                             handleDeleteMisc(misc);
                         });
                     }
@@ -114,13 +125,13 @@ public class MiscFurnitureViewController {
 
     private void setupFilterComboBox() {
         // Get unique categories from the database
-        List<MiscFurniture> allItems = miscFurnitureService.findAll();
+        List<MiscFurnitureRow> allItems = miscFurnitureService.findAllRows();
         ObservableList<String> categories = FXCollections.observableArrayList();
         categories.add("All");
 
-        for (MiscFurniture item : allItems) {
-            if (!categories.contains(item.getCategory())) {
-                categories.add(item.getCategory());
+        for (MiscFurnitureRow item : allItems) {
+            if (!categories.contains(item.category())) {
+                categories.add(item.category());
             }
         }
 
@@ -130,7 +141,7 @@ public class MiscFurnitureViewController {
         filterComboBox.setOnAction(e -> applyFilter());
     }
 
-    private TableView<MiscFurniture> createPage(int pageIndex) {
+    private TableView<MiscFurnitureRow> createPage(int pageIndex) {
         int fromIndex = pageIndex * ITEMS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ITEMS_PER_PAGE, miscList.size());
 
@@ -191,12 +202,12 @@ public class MiscFurnitureViewController {
             woodTypeComboBox.setValue("OAK");
 
             // Populate the category combo box with existing categories
-            List<MiscFurniture> allItems = miscFurnitureService.findAll();
+            List<MiscFurnitureRow> allItems = miscFurnitureService.findAllRows();
             ObservableList<String> categories = FXCollections.observableArrayList();
 
-            for (MiscFurniture item : allItems) {
-                if (!categories.contains(item.getCategory())) {
-                    categories.add(item.getCategory());
+            for (MiscFurnitureRow item : allItems) {
+                if (!categories.contains(item.category())) {
+                    categories.add(item.category());
                 }
             }
 
@@ -320,15 +331,15 @@ public class MiscFurnitureViewController {
             return;
         }
 
-        List<MiscFurniture> allItems = miscFurnitureService.findAll();
-        ObservableList<MiscFurniture> filteredList = FXCollections.observableArrayList();
+        List<MiscFurnitureRow> allItems = miscFurnitureService.findAllRows();
+        ObservableList<MiscFurnitureRow> filteredList = FXCollections.observableArrayList();
 
-        for (MiscFurniture item : allItems) {
-            if (item.getName().toLowerCase().contains(searchTerm) ||
-                item.getManufacturer().toLowerCase().contains(searchTerm) ||
-                item.getMaterial().toLowerCase().contains(searchTerm) ||
-                item.getCategory().toLowerCase().contains(searchTerm) ||
-                item.getDescription().toLowerCase().contains(searchTerm)) {
+        for (MiscFurnitureRow item : allItems) {
+            if (item.name().toLowerCase().contains(searchTerm) ||
+                item.manufacturer().toLowerCase().contains(searchTerm) ||
+                item.material().toLowerCase().contains(searchTerm) ||
+                item.category().toLowerCase().contains(searchTerm) ||
+                item.description().toLowerCase().contains(searchTerm)) {
                 filteredList.add(item);
             }
         }
@@ -336,25 +347,25 @@ public class MiscFurnitureViewController {
         updateTableWithData(filteredList);
     }
 
-    private void handleEditMisc(MiscFurniture misc) {
+    private void handleEditMisc(MiscFurnitureRow misc) {
         // This will be implemented later
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Edit Item");
         alert.setHeaderText("Edit Item Feature");
-        alert.setContentText("This feature would open a dialog to edit item: " + misc.getName());
+        alert.setContentText("This feature would open a dialog to edit item: " + misc.name());
         alert.showAndWait();
     }
 
-    private void handleDeleteMisc(MiscFurniture misc) {
+    private void handleDeleteMisc(MiscFurnitureRow misc) {
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Confirm Delete");
         confirmDialog.setHeaderText("Delete Item");
-        confirmDialog.setContentText("Are you sure you want to delete item: " + misc.getName() + "?");
+        confirmDialog.setContentText("Are you sure you want to delete item: " + misc.name() + "?");
 
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                miscFurnitureService.deleteById(misc.getId());
+                miscFurnitureService.deleteById(misc.id());
                 refreshData();
             } catch (Exception e) {
                 Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -373,11 +384,11 @@ public class MiscFurnitureViewController {
             return;
         }
 
-        List<MiscFurniture> allItems = miscFurnitureService.findAll();
-        ObservableList<MiscFurniture> filteredList = FXCollections.observableArrayList();
+        List<MiscFurnitureRow> allItems = miscFurnitureService.findAllRows();
+        ObservableList<MiscFurnitureRow> filteredList = FXCollections.observableArrayList();
 
-        for (MiscFurniture item : allItems) {
-            if (item.getCategory().equals(filter)) {
+        for (MiscFurnitureRow item : allItems) {
+            if (item.category().equals(filter)) {
                 filteredList.add(item);
             }
         }
@@ -387,7 +398,7 @@ public class MiscFurnitureViewController {
 
     private void refreshData() {
         try {
-            List<MiscFurniture> items = miscFurnitureService.findAll();
+            List<MiscFurnitureRow> items = miscFurnitureService.findAllRows();
             updateTableWithData(FXCollections.observableArrayList(items));
         } catch (Exception e) {
             e.printStackTrace();
@@ -399,7 +410,7 @@ public class MiscFurnitureViewController {
         }
     }
 
-    private void updateTableWithData(ObservableList<MiscFurniture> items) {
+    private void updateTableWithData(ObservableList<MiscFurnitureRow> items) {
         this.miscList = items;
 
         int pageCount = (items.size() + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
@@ -1,16 +1,18 @@
 package com.toto.ui;
 
 import com.toto.backend.entities.Sofa;
+import com.toto.backend.repositories.projections.SofaRow;
 import com.toto.backend.services.interfaces.ISofaService;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.util.Callback;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,18 +27,18 @@ public class SofaViewController {
     @Autowired
     private ISofaService sofaService;
 
-    @FXML private TableView<Sofa> sofasTable;
-    @FXML private TableColumn<Sofa, Long> idColumn;
-    @FXML private TableColumn<Sofa, String> nameColumn;
-    @FXML private TableColumn<Sofa, Double> priceColumn;
-    @FXML private TableColumn<Sofa, String> materialColumn;
-    @FXML private TableColumn<Sofa, String> manufacturerColumn;
-    @FXML private TableColumn<Sofa, Integer> seatingCapacityColumn;
-    @FXML private TableColumn<Sofa, Boolean> isConvertibleColumn;
-    @FXML private TableColumn<Sofa, String> upholsteryTypeColumn;
-    @FXML private TableColumn<Sofa, Integer> numberOfCushionsColumn;
-    @FXML private TableColumn<Sofa, Boolean> hasReclinersColumn;
-    @FXML private TableColumn<Sofa, Void> actionsColumn;
+    @FXML private TableView<SofaRow> sofasTable;
+    @FXML private TableColumn<SofaRow, Long> idColumn;
+    @FXML private TableColumn<SofaRow, String> nameColumn;
+    @FXML private TableColumn<SofaRow, Double> priceColumn;
+    @FXML private TableColumn<SofaRow, String> materialColumn;
+    @FXML private TableColumn<SofaRow, String> manufacturerColumn;
+    @FXML private TableColumn<SofaRow, Integer> seatingCapacityColumn;
+    @FXML private TableColumn<SofaRow, Boolean> isConvertibleColumn;
+    @FXML private TableColumn<SofaRow, String> upholsteryTypeColumn;
+    @FXML private TableColumn<SofaRow, Integer> numberOfCushionsColumn;
+    @FXML private TableColumn<SofaRow, Boolean> hasReclinersColumn;
+    @FXML private TableColumn<SofaRow, Void> actionsColumn;
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> filterComboBox;
@@ -46,7 +48,7 @@ public class SofaViewController {
     @FXML private Label totalItemsLabel;
     @FXML private Pagination pagination;
 
-    private ObservableList<Sofa> sofasList = FXCollections.observableArrayList();
+    private ObservableList<SofaRow> sofasList = FXCollections.observableArrayList();
     private static final int ITEMS_PER_PAGE = 10;
 
     @FXML
@@ -60,36 +62,45 @@ public class SofaViewController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData -> 
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+
+        nameColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().name()));
+
+        priceColumn.setCellValueFactory(cellData -> 
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+
+        materialColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().material()));
+
+        manufacturerColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
 
         // Sofa-specific columns
         seatingCapacityColumn.setCellValueFactory(cellData -> 
-            new SimpleIntegerProperty(cellData.getValue().getSeatingCapacity()).asObject());
+            new SimpleIntegerProperty(cellData.getValue().seatingCapacity()).asObject());
 
         isConvertibleColumn.setCellValueFactory(cellData -> 
             new SimpleBooleanProperty(cellData.getValue().isConvertible()));
 
         upholsteryTypeColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getUpholsteryType()));
+            new SimpleStringProperty(cellData.getValue().upholsteryType()));
 
         numberOfCushionsColumn.setCellValueFactory(cellData -> 
-            new SimpleIntegerProperty(cellData.getValue().getNumberOfCushions()).asObject());
+            new SimpleIntegerProperty(cellData.getValue().numberOfCushions()).asObject());
 
         hasReclinersColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasRecliners()));
+            new SimpleBooleanProperty(cellData.getValue().hasRecliners()));
 
         // Setup actions column with edit and delete buttons
         setupActionsColumn();
     }
 
     private void setupActionsColumn() {
-        Callback<TableColumn<Sofa, Void>, TableCell<Sofa, Void>> cellFactory = new Callback<>() {
+        Callback<TableColumn<SofaRow, Void>, TableCell<SofaRow, Void>> cellFactory = new Callback<>() {
             @Override
-            public TableCell<Sofa, Void> call(final TableColumn<Sofa, Void> param) {
+            public TableCell<SofaRow, Void> call(final TableColumn<SofaRow, Void> param) {
                 return new TableCell<>() {
                     private final Button editButton = new Button("Edit");
                     private final Button deleteButton = new Button("Delete");
@@ -100,12 +111,12 @@ public class SofaViewController {
                         deleteButton.getStyleClass().add("small-button");
 
                         editButton.setOnAction(event -> {
-                            Sofa sofa = getTableView().getItems().get(getIndex());
+                            SofaRow sofa = getTableView().getItems().get(getIndex());
                             handleEditSofa(sofa);
                         });
 
                         deleteButton.setOnAction(event -> {
-                            Sofa sofa = getTableView().getItems().get(getIndex());
+                            SofaRow sofa = getTableView().getItems().get(getIndex());
                             handleDeleteSofa(sofa);
                         });
                     }
@@ -139,7 +150,7 @@ public class SofaViewController {
         filterComboBox.setOnAction(e -> applyFilter());
     }
 
-    private TableView<Sofa> createPage(int pageIndex) {
+    private TableView<SofaRow> createPage(int pageIndex) {
         int fromIndex = pageIndex * ITEMS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ITEMS_PER_PAGE, sofasList.size());
 
@@ -260,14 +271,14 @@ public class SofaViewController {
             return;
         }
 
-        List<Sofa> allSofas = sofaService.findAll();
-        ObservableList<Sofa> filteredList = FXCollections.observableArrayList();
+        List<SofaRow> allSofas = sofaService.findAllRows();
+        ObservableList<SofaRow> filteredList = FXCollections.observableArrayList();
 
-        for (Sofa sofa : allSofas) {
-            if (sofa.getName().toLowerCase().contains(searchTerm) ||
-                sofa.getManufacturer().toLowerCase().contains(searchTerm) ||
-                sofa.getMaterial().toLowerCase().contains(searchTerm) ||
-                sofa.getUpholsteryType().toLowerCase().contains(searchTerm)) {
+        for (SofaRow sofa : allSofas) {
+            if (sofa.name().toLowerCase().contains(searchTerm) ||
+                sofa.manufacturer().toLowerCase().contains(searchTerm) ||
+                sofa.material().toLowerCase().contains(searchTerm) ||
+                sofa.upholsteryType().toLowerCase().contains(searchTerm)) {
                 filteredList.add(sofa);
             }
         }
@@ -275,25 +286,25 @@ public class SofaViewController {
         updateTableWithData(filteredList);
     }
 
-    private void handleEditSofa(Sofa sofa) {
+    private void handleEditSofa(SofaRow sofa) {
         // This will be implemented later
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Edit Sofa");
         alert.setHeaderText("Edit Sofa Feature");
-        alert.setContentText("This feature would open a dialog to edit sofa: " + sofa.getName());
+        alert.setContentText("This feature would open a dialog to edit sofa: " + sofa.name());
         alert.showAndWait();
     }
 
-    private void handleDeleteSofa(Sofa sofa) {
+    private void handleDeleteSofa(SofaRow sofa) {
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Confirm Delete");
         confirmDialog.setHeaderText("Delete Sofa");
-        confirmDialog.setContentText("Are you sure you want to delete sofa: " + sofa.getName() + "?");
+        confirmDialog.setContentText("Are you sure you want to delete sofa: " + sofa.name() + "?");
 
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                sofaService.deleteById(sofa.getId());
+                sofaService.deleteById(sofa.id());
                 refreshData();
             } catch (Exception e) {
                 Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -312,15 +323,15 @@ public class SofaViewController {
             return;
         }
 
-        List<Sofa> allSofas = sofaService.findAll();
-        ObservableList<Sofa> filteredList = FXCollections.observableArrayList();
+        List<SofaRow> allSofas = sofaService.findAllRows();
+        ObservableList<SofaRow> filteredList = FXCollections.observableArrayList();
 
-        for (Sofa sofa : allSofas) {
+        for (SofaRow sofa : allSofas) {
             boolean include = switch (filter) {
                 case "Convertible" -> sofa.isConvertible();
                 case "Non-Convertible" -> !sofa.isConvertible();
-                case "Has Recliners" -> sofa.isHasRecliners();
-                case "No Recliners" -> !sofa.isHasRecliners();
+                case "Has Recliners" -> sofa.hasRecliners();
+                case "No Recliners" -> !sofa.hasRecliners();
                 default -> true;
             };
 
@@ -334,7 +345,7 @@ public class SofaViewController {
 
     private void refreshData() {
         try {
-            List<Sofa> sofas = sofaService.findAll();
+            List<SofaRow> sofas = sofaService.findAllRows();
             updateTableWithData(FXCollections.observableArrayList(sofas));
         } catch (Exception e) {
             e.printStackTrace();
@@ -346,7 +357,7 @@ public class SofaViewController {
         }
     }
 
-    private void updateTableWithData(ObservableList<Sofa> sofas) {
+    private void updateTableWithData(ObservableList<SofaRow> sofas) {
         this.sofasList = sofas;
 
         int pageCount = (sofas.size() + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
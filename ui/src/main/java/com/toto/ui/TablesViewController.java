@@ -1,17 +1,18 @@
 package com.toto.ui;
 
 import com.toto.backend.entities.Tables;
+import com.toto.backend.repositories.projections.TablesRow;
 import com.toto.backend.services.interfaces.ITablesService;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.util.Callback;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,20 +27,20 @@ public class TablesViewController {
     @Autowired
     private ITablesService tablesService;
 
-    @FXML private TableView<Tables> tablesTable;
-    @FXML private TableColumn<Tables, Long> idColumn;
-    @FXML private TableColumn<Tables, String> nameColumn;
-    @FXML private TableColumn<Tables, Double> priceColumn;
-    @FXML private TableColumn<Tables, String> materialColumn;
-    @FXML private TableColumn<Tables, String> manufacturerColumn;
-    @FXML private TableColumn<Tables, String> shapeColumn;
-    @FXML private TableColumn<Tables, Integer> seatingCapacityColumn;
-    @FXML private TableColumn<Tables, Boolean> isExtendableColumn;
-    @FXML private TableColumn<Tables, Double> lengthColumn;
-    @FXML private TableColumn<Tables, Double> widthColumn;
-    @FXML private TableColumn<Tables, Double> heightColumn;
-    @FXML private TableColumn<Tables, Boolean> hasGlassTopColumn;
-    @FXML private TableColumn<Tables, Void> actionsColumn;
+    @FXML private TableView<TablesRow> tablesTable;
+    @FXML private TableColumn<TablesRow, Long> idColumn;
+    @FXML private TableColumn<TablesRow, String> nameColumn;
+    @FXML private TableColumn<TablesRow, Double> priceColumn;
+    @FXML private TableColumn<TablesRow, String> materialColumn;
+    @FXML private TableColumn<TablesRow, String> manufacturerColumn;
+    @FXML private TableColumn<TablesRow, String> shapeColumn;
+    @FXML private TableColumn<TablesRow, Integer> seatingCapacityColumn;
+    @FXML private TableColumn<TablesRow, Boolean> isExtendableColumn;
+    @FXML private TableColumn<TablesRow, Double> lengthColumn;
+    @FXML private TableColumn<TablesRow, Double> widthColumn;
+    @FXML private TableColumn<TablesRow, Double> heightColumn;
+    @FXML private TableColumn<TablesRow, Boolean> hasGlassTopColumn;
+    @FXML private TableColumn<TablesRow, Void> actionsColumn;
 
     @FXML private TextField searchField;
     @FXML private ComboBox<String> filterComboBox;
@@ -49,7 +50,7 @@ public class TablesViewController {
     @FXML private Label totalItemsLabel;
     @FXML private Pagination pagination;
 
-    private ObservableList<Tables> tablesList = FXCollections.observableArrayList();
+    private ObservableList<TablesRow> tablesList = FXCollections.observableArrayList();
     private static final int ITEMS_PER_PAGE = 10;
 
     @FXML
@@ -66,42 +67,51 @@ public class TablesViewController {
     }
 
     private void setupTableColumns() {
-        idColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        priceColumn.setCellValueFactory(new PropertyValueFactory<>("price"));
-        materialColumn.setCellValueFactory(new PropertyValueFactory<>("material"));
-        manufacturerColumn.setCellValueFactory(new PropertyValueFactory<>("manufacturer"));
+        idColumn.setCellValueFactory(cellData -> 
+            new SimpleObjectProperty<>(cellData.getValue().id()));
+
+        nameColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().name()));
+
+        priceColumn.setCellValueFactory(cellData -> 
+            new SimpleDoubleProperty(cellData.getValue().price()).asObject());
+
+        materialColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().material()));
+
+        manufacturerColumn.setCellValueFactory(cellData -> 
+            new SimpleStringProperty(cellData.getValue().manufacturer()));
 
         // Tables-specific columns
         shapeColumn.setCellValueFactory(cellData -> 
-            new SimpleStringProperty(cellData.getValue().getShape()));
+            new SimpleStringProperty(cellData.getValue().shape()));
 
         seatingCapacityColumn.setCellValueFactory(cellData -> 
-            new SimpleIntegerProperty(cellData.getValue().getSeatingCapacity()).asObject());
+            new SimpleIntegerProperty(cellData.getValue().seatingCapacity()).asObject());
 
         isExtendableColumn.setCellValueFactory(cellData -> 
             new SimpleBooleanProperty(cellData.getValue().isExtendable()));
 
         lengthColumn.setCellValueFactory(cellData -> 
-            new SimpleDoubleProperty(cellData.getValue().getLength()).asObject());
+            new SimpleDoubleProperty(cellData.getValue().length()).asObject());
 
         widthColumn.setCellValueFactory(cellData -> 
-            new SimpleDoubleProperty(cellData.getValue().getWidth()).asObject());
+            new SimpleDoubleProperty(cellData.getValue().width()).asObject());
 
         heightColumn.setCellValueFactory(cellData -> 
-            new SimpleDoubleProperty(cellData.getValue().getHeight()).asObject());
+            new SimpleDoubleProperty(cellData.getValue().height()).asObject());
 
         hasGlassTopColumn.setCellValueFactory(cellData -> 
-            new SimpleBooleanProperty(cellData.getValue().isHasGlassTop()));
+            new SimpleBooleanProperty(cellData.getValue().hasGlassTop()));
 
         // Setup actions column with edit and delete buttons
         setupActionsColumn();
     }
 
     private void setupActionsColumn() {
-        Callback<TableColumn<Tables, Void>, TableCell<Tables, Void>> cellFactory = new Callback<>() {
+        Callback<TableColumn<TablesRow, Void>, TableCell<TablesRow, Void>> cellFactory = new Callback<>() {
             @Override
-            public TableCell<Tables, Void> call(final TableColumn<Tables, Void> param) {
+            public TableCell<TablesRow, Void> call(final TableColumn<TablesRow, Void> param) {
                 return new TableCell<>() {
                     private final Button editButton = new Button("Edit");
                     private final Button deleteButton = new Button("Delete");
@@ -112,12 +122,12 @@ public class TablesViewController {
                         deleteButton.getStyleClass().add("small-button");
 
                         editButton.setOnAction(event -> {
-                            Tables table = getTableView().getItems().get(getIndex());
+                            TablesRow table = getTableView().getItems().get(getIndex());
                             handleEditTable(table);
                         });
 
                         deleteButton.setOnAction(event -> {
-                            Tables table = getTableView().getItems().get(getIndex());
+                            TablesRow table = getTableView().getItems().get(getIndex());
                             handleDeleteTable(table);
                         });
                     }
@@ -154,7 +164,7 @@ public class TablesViewController {
         filterComboBox.setOnAction(e -> applyFilter());
     }
 
-    private TableView<Tables> createPage(int pageIndex) {
+    private TableView<TablesRow> createPage(int pageIndex) {
         int fromIndex = pageIndex * ITEMS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ITEMS_PER_PAGE, tablesList.size());
 
@@ -274,14 +284,14 @@ public class TablesViewController {
             return;
         }
 
-        List<Tables> allTables = tablesService.findAll();
-        ObservableList<Tables> filteredList = FXCollections.observableArrayList();
+        List<TablesRow> allTables = tablesService.findAllRows();
+        ObservableList<TablesRow> filteredList = FXCollections.observableArrayList();
 
-        for (Tables table : allTables) {
-            if (table.getName().toLowerCase().contains(searchTerm) ||
-                table.getManufacturer().toLowerCase().contains(searchTerm) ||
-                table.getMaterial().toLowerCase().contains(searchTerm) ||
-                table.getShape().toLowerCase().contains(searchTerm)) {
+        for (TablesRow table : allTables) {
+            if (table.name().toLowerCase().contains(searchTerm) ||
+                table.manufacturer().toLowerCase().contains(searchTerm) ||
+                table.material().toLowerCase().contains(searchTerm) ||
+                table.shape().toLowerCase().contains(searchTerm)) {
                 filteredList.add(table);
             }
         }
@@ -289,25 +299,25 @@ public class TablesViewController {
         updateTableWithData(filteredList);
     }
 
-    private void handleEditTable(Tables table) {
+    private void handleEditTable(TablesRow table) {
         // This will be implemented later
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Edit Table");
         alert.setHeaderText("Edit Table Feature");
-        alert.setContentText("This feature would open a dialog to edit table: " + table.getName());
+        alert.setContentText("This feature would open a dialog to edit table: " + table.name());
         alert.showAndWait();
     }
 
-    private void handleDeleteTable(Tables table) {
+    private void handleDeleteTable(TablesRow table) {
         Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
         confirmDialog.setTitle("Confirm Delete");
         confirmDialog.setHeaderText("Delete Table");
-        confirmDialog.setContentText("Are you sure you want to delete table: " + table.getName() + "?");
+        confirmDialog.setContentText("Are you sure you want to delete table: " + table.name() + "?");
 
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                tablesService.deleteById(table.getId());
+                tablesService.deleteById(table.id());
                 refreshData();
             } catch (Exception e) {
                 Alert errorAlert = new Alert(Alert.AlertType.ERROR);
@@ -326,16 +336,16 @@ public class TablesViewController {
             return;
         }
 
-        List<Tables> allTables = tablesService.findAll();
-        ObservableList<Tables> filteredList = FXCollections.observableArrayList();
+        List<TablesRow> allTables = tablesService.findAllRows();
+        ObservableList<TablesRow> filteredList = FXCollections.observableArrayList();
 
-        for (Tables table : allTables) {
+        for (TablesRow table : allTables) {
             boolean include = switch (filter) {
-                case "Round", "Rectangular", "Square" -> table.getShape().equalsIgnoreCase(filter);
+                case "Round", "Rectangular", "Square" -> table.shape().equalsIgnoreCase(filter);
                 case "Extendable" -> table.isExtendable();
                 case "Non-Extendable" -> !table.isExtendable();
-                case "Glass Top" -> table.isHasGlassTop();
-                case "No Glass Top" -> !table.isHasGlassTop();
+                case "Glass Top" -> table.hasGlassTop();
+                case "No Glass Top" -> !table.hasGlassTop();
                 default -> true;
             };
 
@@ -349,7 +359,7 @@ public class TablesViewController {
 
     private void refreshData() {
         try {
-            List<Tables> tables = tablesService.findAll();
+            List<TablesRow> tables = tablesService.findAllRows();
             updateTableWithData(FXCollections.observableArrayList(tables));
         } catch (Exception e) {
             e.printStackTrace();
@@ -361,7 +371,7 @@ public class TablesViewController {
         }
     }
 
-    private void updateTableWithData(ObservableList<Tables> tables) {
+    private void updateTableWithData(ObservableList<TablesRow> tables) {
         this.tablesList = tables;
 
         int pageCount = (tables.size() + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE;
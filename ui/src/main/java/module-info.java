@@ -16,6 +16,7 @@ module com.toto.ui {
     requires org.jfxtras.styles.jmetro;
     requires java.sql;
     requires spring.core;
+    requires spring.data.commons;
 
     opens com.toto.ui to javafx.fxml, spring.core, spring.beans, spring.context;
     exports com.toto.ui;